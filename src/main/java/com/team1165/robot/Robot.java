@@ -14,8 +14,17 @@
 package com.team1165.robot;
 
 import com.team1165.robot.globalconstants.BuildConstants;
+import com.team1165.util.constants.CANFrequencyProfile;
+import com.team1165.util.constants.CompetitionConstants;
+import com.team1165.util.logging.motordata.MotorDataBank;
+import com.team1165.util.logging.motordata.SimMotorData;
+import com.team1165.util.logging.sensordata.SensorData;
+import com.team1165.util.tunables.TuningApplier;
 import com.team1165.util.tunables.TuningManager;
+import com.team1165.util.vendor.ConfigFingerprintCache;
+import com.team1165.util.vendor.DeviceConfigPipeline;
 import com.team1165.util.vendor.ctre.PhoenixSignalUtils;
+import com.team1165.util.vendor.rev.SparkUtils;
 import org.littletonrobotics.junction.LogFileUtil;
 import org.littletonrobotics.junction.LoggedRobot;
 import org.littletonrobotics.junction.Logger;
@@ -48,6 +57,8 @@ public class Robot extends LoggedRobot {
         Logger.recordMetadata("GitDirty", "Unknown");
         break;
     }
+    Logger.recordMetadata(
+        "CompetitionMode", Boolean.toString(CompetitionConstants.competitionMode));
 
     // Set up data receivers & replay source
     switch (Constants.currentMode) {
@@ -71,8 +82,17 @@ public class Robot extends LoggedRobot {
         break;
     }
 
+    // Wait for every device submitted at boot to finish configuring, record the timing report, and
+    // save the fingerprints of any configurations that were applied
+    DeviceConfigPipeline.awaitAll();
+    ConfigFingerprintCache.save();
+
     // Start AdvantageKit logger
     Logger.start();
+
+    // Fit the registered signals in the bandwidth budget of each CAN bus, once every device is
+    // configured
+    PhoenixSignalUtils.enforceBandwidthBudget();
   }
 
   /** This function is called periodically during all modes. */
@@ -81,13 +101,25 @@ public class Robot extends LoggedRobot {
     // Refresh all Phoenix signals
     PhoenixSignalUtils.refreshAll();
 
-    // Update tuning mode
-    TuningManager.updateTuningMode();
+    // Update and log all motor data
+    MotorDataBank.periodic();
+
+    // Update and log all sensor data
+    SensorData.periodicAll();
+
+    // Apply queued SPARK signal frequencies, limited per loop
+    SparkUtils.periodic();
+
+    // Update tuning mode and apply any values changed on the dashboard
+    TuningManager.periodic();
+    TuningApplier.periodic();
   }
 
   /** This function is called once when the robot is disabled. */
   @Override
-  public void disabledInit() {}
+  public void disabledInit() {
+    applyFrequencyProfile(CANFrequencyProfile.DISABLED);
+  }
 
   /** This function is called periodically when disabled. */
   @Override
@@ -95,7 +127,9 @@ public class Robot extends LoggedRobot {
 
   /** This autonomous runs the autonomous command selected by your {@link RobotContainer} class. */
   @Override
-  public void autonomousInit() {}
+  public void autonomousInit() {
+    applyFrequencyProfile(CANFrequencyProfile.AUTONOMOUS);
+  }
 
   /** This function is called periodically during autonomous. */
   @Override
@@ -103,7 +137,9 @@ public class Robot extends LoggedRobot {
 
   /** This function is called once when teleop is enabled. */
   @Override
-  public void teleopInit() {}
+  public void teleopInit() {
+    applyFrequencyProfile(CANFrequencyProfile.TELEOP);
+  }
 
   /** This function is called periodically during operator control. */
   @Override
@@ -111,7 +147,9 @@ public class Robot extends LoggedRobot {
 
   /** This function is called once when test mode is enabled. */
   @Override
-  public void testInit() {}
+  public void testInit() {
+    applyFrequencyProfile(CANFrequencyProfile.TEST);
+  }
 
   /** This function is called periodically during test mode. */
   @Override
@@ -123,5 +161,20 @@ public class Robot extends LoggedRobot {
 
   /** This function is called periodically whilst in simulation. */
   @Override
-  public void simulationPeriodic() {}
+  public void simulationPeriodic() {
+    // Step all motor physics simulations
+    SimMotorData.stepAll(getPeriod());
+  }
+
+  /**
+   * Activates the provided CAN frequency profile and re-applies it to every Phoenix signal and
+   * SPARK as a single batch.
+   *
+   * @param profile The {@link CANFrequencyProfile} to activate.
+   */
+  private static void applyFrequencyProfile(CANFrequencyProfile profile) {
+    CANFrequencyProfile.setActive(profile);
+    PhoenixSignalUtils.applyFrequencyProfile();
+    SparkUtils.applyFrequencyProfile();
+  }
 }
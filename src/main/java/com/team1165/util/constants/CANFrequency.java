@@ -27,12 +27,25 @@ public enum CANFrequency {
   }
 
   /**
-   * Get the frequency for the provided CAN bus, based on if it has CAN FD support.
+   * Get the frequency for the provided CAN bus, based on if it has CAN FD support, scaled by the
+   * active {@link CANFrequencyProfile}.
    *
    * @param canBus The {@link CANBus} to get the frequency for.
    * @return The frequency for the provided CAN bus.
    */
   public final double getFrequency(CANBus canBus) {
-    return canBus.isNetworkFD() ? fdFrequency : standardFrequency;
+    return (canBus.isNetworkFD() ? fdFrequency : standardFrequency)
+        * CANFrequencyProfile.getActive().getScale(this);
+  }
+
+  /**
+   * Get the faster of the two provided frequencies.
+   *
+   * @param a The first {@link CANFrequency} to compare.
+   * @param b The second {@link CANFrequency} to compare.
+   * @return The faster of the two provided frequencies.
+   */
+  public static CANFrequency max(CANFrequency a, CANFrequency b) {
+    return a.fdFrequency >= b.fdFrequency ? a : b;
   }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.constants;
+
+/**
+ * Enum to provide per-mode profiles for the rates of each {@link CANFrequency}.
+ *
+ * <p>Each profile scales the rates of {@link CANFrequency#FAST}, {@link CANFrequency#MEDIUM}, and
+ * {@link CANFrequency#SLOW}. The active profile is applied to every registered signal when the
+ * robot changes modes, so signals only used for logging are not streamed at full rate while the
+ * robot is sitting disabled.
+ */
+public enum CANFrequencyProfile {
+  /** Profile used while disabled, with logging signals slowed down the most. */
+  DISABLED(0.4, 0.2, 0.4),
+  /** Profile used during autonomous. */
+  AUTONOMOUS(1.0, 1.0, 1.0),
+  /** Profile used during teleop. */
+  TELEOP(1.0, 1.0, 1.0),
+  /** Profile used during test mode. */
+  TEST(1.0, 1.0, 1.0);
+
+  /** The currently active profile. */
+  private static CANFrequencyProfile active = AUTONOMOUS;
+
+  private final double fastScale;
+  private final double mediumScale;
+  private final double slowScale;
+
+  CANFrequencyProfile(double fastScale, double mediumScale, double slowScale) {
+    this.fastScale = fastScale;
+    this.mediumScale = mediumScale;
+    this.slowScale = slowScale;
+  }
+
+  /**
+   * Get the scale applied to the rate of the provided frequency by this profile.
+   *
+   * @param frequency The {@link CANFrequency} to get the scale for.
+   * @return The scale applied to the rate of the provided frequency.
+   */
+  public final double getScale(CANFrequency frequency) {
+    return switch (frequency) {
+      case FAST -> fastScale;
+      case MEDIUM -> mediumScale;
+      case SLOW -> slowScale;
+    };
+  }
+
+  /**
+   * Get the currently active profile, which defaults to {@link #AUTONOMOUS} (unscaled) until a
+   * profile is set.
+   *
+   * @return The currently active profile.
+   */
+  public static CANFrequencyProfile getActive() {
+    return active;
+  }
+
+  /**
+   * Set the currently active profile. This does not re-apply any frequencies, which must be done
+   * separately for every registered signal.
+   *
+   * @param profile The profile to make active.
+   */
+  public static void setActive(CANFrequencyProfile profile) {
+    active = profile;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.motordata;
+
+import com.team1165.util.constants.CANFrequency;
+
+/**
+ * A request for a {@link MotorField} of a {@link MotorData} to be updated at a minimum {@link
+ * CANFrequency}.
+ *
+ * <p>Each field is updated at the fastest frequency of all of its live leases. A lease stays live
+ * until it is released, or until it is not renewed within its timeout, after which the frequency of
+ * the field drops back on the next loop. An expired lease stays dormant until it is renewed, which
+ * raises the frequency again, or released. Leases are created through {@link
+ * MotorData#acquireLease}.
+ */
+public final class FrequencyLease {
+  private final MotorField field;
+  private final CANFrequency frequency;
+  private final double timeoutSeconds;
+
+  /** Timestamp (in seconds) after which the lease expires if it is not renewed. */
+  private double expiration;
+
+  /** Whether the lease has been released. */
+  private boolean released = false;
+
+  /**
+   * Creates a new {@link FrequencyLease}, live until the timeout elapses.
+   *
+   * @param field The {@link MotorField} that the lease is for.
+   * @param frequency The minimum {@link CANFrequency} requested for the field.
+   * @param timeoutSeconds The time (in seconds) the lease stays live after being renewed.
+   */
+  FrequencyLease(MotorField field, CANFrequency frequency, double timeoutSeconds) {
+    this.field = field;
+    this.frequency = frequency;
+    this.timeoutSeconds = timeoutSeconds;
+    renew();
+  }
+
+  /** Returns the {@link MotorField} that the lease is for. */
+  public MotorField getField() {
+    return field;
+  }
+
+  /** Returns the minimum {@link CANFrequency} requested for the field. */
+  public CANFrequency getFrequency() {
+    return frequency;
+  }
+
+  /** Keeps the lease live for another timeout period. Has no effect once the lease is released. */
+  public void renew() {
+    expiration = MotorDataBank.getLoopTimestamp() + timeoutSeconds;
+  }
+
+  /** Releases the lease, letting the frequency of the field drop back on the next loop. */
+  public void release() {
+    released = true;
+  }
+
+  /** Returns whether the lease has been released, after which it can never be live again. */
+  boolean isReleased() {
+    return released;
+  }
+
+  /**
+   * Check whether the lease is still live.
+   *
+   * @param timestamp The current loop timestamp, in seconds.
+   * @return Whether the lease has not been released and has not expired.
+   */
+  boolean isLive(double timestamp) {
+    return !released && timestamp < expiration;
+  }
+}
@@ -7,49 +7,67 @@
 
 package com.team1165.util.logging.motordata;
 
+import edu.wpi.first.wpilibj.RobotController;
+
 /**
  * Generic {@link MotorData} class used for simulation and other specific use cases.
  *
- * <p>Values are manually passed in each time the {@link #update} method is called.
+ * <p>Values are manually passed in each time the {@link #update} method is called, and are logged
+ * with the rest of the {@link MotorDataBank} on the next loop. For simulating a mechanism with a
+ * physics model, use {@link SimMotorData} instead.
  */
 public class GenericMotorData extends MotorData {
+  /**
+   * Creates a new {@link GenericMotorData} with generic fault names.
+   *
+   * @param name The name of the motor in logs.
+   */
+  public GenericMotorData(String name) {
+    super(name, MotorFaults.generic);
+  }
+
   /**
    * Updates the motor data using the values passed into this method. If any values do not exist (or
    * for simulation, are not simulated), and are not required for a specific subsystem, pass in
    * <code>0.0</code>.
    *
-   * @param appliedVolts The value to set {@link #appliedVolts} to.
-   * @param connected The value to set {@link #connected} to.
-   * @param faultActive The value to set {@link #faultActive} to.
-   * @param faults The value to set {@link #faults} to.
-   * @param motorTemperatureCelsius The value to set {@link #motorTemperatureCelsius} to.
-   * @param outputCurrentAmps The value to set {@link #outputCurrentAmps} to.
-   * @param position The value to set {@link #position} to.
-   * @param processorTemperatureCelsius The value to set {@link #processorTemperatureCelsius} to.
-   * @param supplyCurrentAmps The value to set {@link #supplyCurrentAmps} to.
-   * @param velocity The value to set {@link #velocity} to.
+   * @param appliedVolts The value returned by {@link #getAppliedVolts()}.
+   * @param connected The value returned by {@link #getConnected()}.
+   * @param faultActive The value returned by {@link #getFaultActive()}.
+   * @param faults The value returned by {@link #getFaults()}.
+   * @param motorTemperatureCelsius The value returned by {@link #getMotorTemperatureCelsius()}.
+   * @param outputCurrentAmps The value returned by {@link #getOutputCurrentAmps()}.
+   * @param position The value returned by {@link #getPosition()}.
+   * @param processorTemperatureCelsius The value returned by {@link
+   *     #getProcessorTemperatureCelsius()}.
+   * @param supplyCurrentAmps The value returned by {@link #getSupplyCurrentAmps()}.
+   * @param velocity The value returned by {@link #getVelocity()}.
    */
   public void update(
       double appliedVolts,
       boolean connected,
       boolean faultActive,
-      String faults,
+      int faults,
       double motorTemperatureCelsius,
       double outputCurrentAmps,
       double position,
       double processorTemperatureCelsius,
       double supplyCurrentAmps,
       double velocity) {
-    this.appliedVolts = appliedVolts;
-    this.connected = connected;
-    this.faultActive = faultActive;
-    this.faults = faults;
-    this.motorTemperatureCelsius = motorTemperatureCelsius;
-    this.outputCurrentAmps = outputCurrentAmps;
-    this.position = position;
-    this.processorTemperatureCelsius = processorTemperatureCelsius;
-    this.supplyCurrentAmps = supplyCurrentAmps;
-    this.velocity = velocity;
+    setAppliedVolts(appliedVolts);
+    setConnected(connected);
+    setFaultActive(faultActive);
+    setFaults(faults);
+    setMotorTemperatureCelsius(motorTemperatureCelsius);
+    setOutputCurrentAmps(outputCurrentAmps);
+    setPosition(position);
+    setProcessorTemperatureCelsius(processorTemperatureCelsius);
+    setSupplyCurrentAmps(supplyCurrentAmps);
+    setVelocity(velocity);
+    setTimestamp(RobotController.getFPGATime() / 1e6);
+    setLatencySeconds(0.0);
+    setCompensatedPosition(position);
+    setCompensatedVelocity(velocity);
   }
 
   /**
@@ -57,11 +75,11 @@ public class GenericMotorData extends MotorData {
    * for simulation, are not simulated), and are not required for a specific subsystem, pass in
    * <code>0.0</code>.
    *
-   * @param appliedVolts The value to set {@link #appliedVolts} to.
-   * @param outputCurrentAmps The value to set {@link #outputCurrentAmps} to.
-   * @param position The value to set {@link #position} to.
-   * @param supplyCurrentAmps The value to set {@link #supplyCurrentAmps} to.
-   * @param velocity The value to set {@link #velocity} to.
+   * @param appliedVolts The value returned by {@link #getAppliedVolts()}.
+   * @param outputCurrentAmps The value returned by {@link #getOutputCurrentAmps()}.
+   * @param position The value returned by {@link #getPosition()}.
+   * @param supplyCurrentAmps The value returned by {@link #getSupplyCurrentAmps()}.
+   * @param velocity The value returned by {@link #getVelocity()}.
    */
   public void update(
       double appliedVolts,
@@ -73,7 +91,7 @@ public class GenericMotorData extends MotorData {
         appliedVolts,
         true,
         false,
-        "",
+        0,
         0.0,
         outputCurrentAmps,
         position,
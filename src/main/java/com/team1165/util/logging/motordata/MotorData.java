@@ -7,121 +7,312 @@
 
 package com.team1165.util.logging.motordata;
 
-import org.littletonrobotics.junction.LogTable;
-import org.littletonrobotics.junction.inputs.LoggableInputs;
+import com.team1165.util.constants.CANFrequency;
+import com.team1165.util.vendor.ctre.SignalSampleBuffer;
+import java.util.ArrayList;
 
 /**
  * Class that provides easy collection of most standard values collected from a motor (controller)
  * through an IO class.
+ *
+ * <p>Each instance is a view over a single row of the {@link MotorDataBank}, which stores and logs
+ * the data of every motor together. The bank updates every registered instance through {@link
+ * MotorDataBank#periodic()}.
+ *
+ * <p>The update frequency of each field is arbitrated through {@link FrequencyLease} objects: a
+ * field runs at the fastest frequency of its live leases, or its baseline frequency if it has none.
+ * Reading a field through its getter renews an implicit {@link CANFrequency#FAST} lease, so values
+ * that stop being read drop back to their baseline frequency.
  */
-public abstract class MotorData implements LoggableInputs {
-  /** The applied voltage to the motor. */
-  protected double appliedVolts = 0.0;
+public abstract class MotorData {
+  /** All fields, indexed by ordinal. */
+  private static final MotorField[] fields = MotorField.values();
+
+  /** Time (in seconds) a field stays at a fast frequency after being read through a getter. */
+  private static final double accessLeaseSeconds = 1.0;
+
+  /** Default time (in seconds) an acquired lease stays live without being renewed. */
+  private static final double defaultLeaseSeconds = 1.0;
+
+  // Frequencies of each field, indexed by field ordinal
+  private final CANFrequency[] baselineFrequencies = new CANFrequency[fields.length];
+  private final CANFrequency[] appliedFrequencies = new CANFrequency[fields.length];
+  private final CANFrequency[] targetFrequencies = new CANFrequency[fields.length];
+
+  /** Expiration of the implicit lease taken when a field is read, indexed by field ordinal. */
+  private final double[] accessExpirations = new double[fields.length];
 
-  /** Whether the motor (controller) is connected. Might be unreliable with a SPARK. */
-  protected boolean connected = false;
+  /** All leases acquired on this motor that have not yet been released, live or dormant. */
+  private final ArrayList<FrequencyLease> leases = new ArrayList<>();
 
-  /** Whether a fault is currently active on the motor (controller). */
-  protected boolean faultActive = false;
+  /** Table used to decode the fault bitmask into a string, see {@link MotorFaults}. */
+  private final String[] faultTable;
 
-  /** String of the currently active faults on the motor (controller). */
-  protected String faults = "";
+  /** The row of the {@link MotorDataBank} that this instance is a view over. */
+  final int row;
 
-  /** The temperature of the motor. */
-  protected double motorTemperatureCelsius = 0.0;
+  /** Buffer that high-rate samples are drained from, or null if sampling is not enabled. */
+  private SignalSampleBuffer sampleBuffer = null;
+
+  // Samples drained from the sample buffer during the last update, only valid up to sampleCount
+  private double[] sampleTimestamps = new double[0];
+  private double[][] sampleValues = new double[2][0];
+  private int sampleCount = 0;
+
+  /** History of position, velocity, and output current, empty unless enabled. */
+  private MotorDataHistory history = new MotorDataHistory(0);
+
+  /** Streaming health statistics, updated every loop. */
+  private final MotorHealth health = new MotorHealth();
 
   /**
-   * The output current of the motor. This is the general output current on a SPARK and the torque
-   * current on a Talon.
+   * Creates a new {@link MotorData} and registers it with the {@link MotorDataBank}.
+   *
+   * @param name The name of the motor in logs.
+   * @param faultTable The {@link MotorFaults} table used to decode the fault bitmask.
    */
-  protected double outputCurrentAmps = 0.0;
+  MotorData(String name, String[] faultTable) {
+    this.faultTable = faultTable;
+    row = MotorDataBank.register(this, name);
+
+    // By default, data is updated at a medium frequency and faults at a slow frequency
+    for (MotorField field : fields) {
+      CANFrequency frequency =
+          field == MotorField.FAULT_ACTIVE || field == MotorField.FAULTS
+              ? CANFrequency.SLOW
+              : CANFrequency.MEDIUM;
+      setBaselineFrequency(field, frequency);
+    }
+  }
 
   /**
-   * The position reported by the motor (controller). Typically motor rotations, but could be
-   * different depending on the specific conversion factors on the motor controller.
+   * Updates the data in this instance's row of the {@link MotorDataBank}. Called once per loop by
+   * {@link MotorDataBank#periodic()}.
+   */
+  void update() {}
+
+  /**
+   * Drains all high-rate samples recorded since the last loop, if sampling is enabled. Called once
+   * per loop by {@link MotorDataBank#periodic()}, before {@link #update()}.
+   */
+  void drainSamples() {
+    if (sampleBuffer != null) {
+      sampleCount = sampleBuffer.drain(sampleTimestamps, sampleValues);
+    }
+  }
+
+  /**
+   * Records the latest values (or every high-rate sample, if sampling is enabled) into the history.
+   * Called once per loop by {@link MotorDataBank#periodic()}, after the bank has been logged or
+   * replayed.
    */
-  protected double position = 0.0;
+  void recordHistory() {
+    if (history.capacity() == 0) {
+      return;
+    }
 
-  /** The temperature of the motor controller. Not applicable on a SPARK. */
-  protected double processorTemperatureCelsius = 0.0;
+    double current = MotorDataBank.outputCurrentAmps[row];
+    if (sampleCount > 0) {
+      for (int i = 0; i < sampleCount; i++) {
+        history.add(sampleTimestamps[i], sampleValues[0][i], sampleValues[1][i], current);
+      }
+    } else {
+      history.add(
+          MotorDataBank.timestamp[row],
+          MotorDataBank.position[row],
+          MotorDataBank.velocity[row],
+          current);
+    }
+  }
 
-  /** The supply current provided to the motor controller. */
-  protected double supplyCurrentAmps = 0.0;
+  /**
+   * Adds the latest values to the health statistics. Called once per loop by {@link
+   * MotorDataBank#periodic()}, after the bank has been logged or replayed.
+   *
+   * @param dt The time since the last update, in seconds.
+   */
+  void updateHealth(double dt) {
+    health.update(
+        dt,
+        MotorDataBank.supplyCurrentAmps[row],
+        MotorDataBank.outputCurrentAmps[row],
+        MotorDataBank.motorTemperatureCelsius[row]);
+  }
+
+  /** Get the streaming health statistics of the motor, such as current averages and peaks. */
+  public MotorHealth getHealth() {
+    return health;
+  }
 
   /**
-   * The velocity reported by the motor (controller). Typically reported in motor rotations per
-   * minute, but could be different depending on the specific conversion factors on the motor
-   * controller.
+   * Enables a time-indexed history of the position, velocity, and output current of the motor,
+   * replacing any existing history.
+   *
+   * @param capacity The maximum number of entries to keep. With high-rate sampling enabled, every
+   *     sample is recorded, otherwise one entry is recorded per loop.
+   */
+  public void enableHistory(int capacity) {
+    history = new MotorDataHistory(capacity);
+  }
+
+  /**
+   * Get the time-indexed history of the position, velocity, and output current of the motor. Empty
+   * unless enabled through {@link #enableHistory(int)}.
+   */
+  public MotorDataHistory getHistory() {
+    return history;
+  }
+
+  /**
+   * Sets the buffer that high-rate position and velocity samples are drained from each loop.
+   *
+   * @param sampleBuffer A {@link SignalSampleBuffer} with position as the first value and velocity
+   *     as the second value of each sample.
    */
-  protected double velocity = 0.0;
+  protected final void setSampleBuffer(SignalSampleBuffer sampleBuffer) {
+    this.sampleBuffer = sampleBuffer;
+    sampleTimestamps = new double[sampleBuffer.capacity()];
+    sampleValues = new double[sampleBuffer.width()][sampleBuffer.capacity()];
+    sampleCount = 0;
+  }
+
+  /**
+   * Get the number of high-rate samples drained during the last loop. Only the first {@code
+   * getSampleCount()} entries of the sample arrays are valid.
+   */
+  public int getSampleCount() {
+    return sampleCount;
+  }
 
-  /** Bitmask used to raise the frequency of values that are actually used in the robot code. */
-  private int accessed = 0;
+  /**
+   * Get the timestamps of the high-rate samples drained during the last loop, oldest first. The
+   * returned array is reused every loop and must not be modified.
+   */
+  public double[] getSampleTimestamps() {
+    return sampleTimestamps;
+  }
+
+  /**
+   * Get the positions of the high-rate samples drained during the last loop, oldest first. The
+   * returned array is reused every loop and must not be modified.
+   */
+  public double[] getSamplePositions() {
+    return sampleValues[0];
+  }
+
+  /**
+   * Get the velocities of the high-rate samples drained during the last loop, oldest first. The
+   * returned array is reused every loop and must not be modified.
+   */
+  public double[] getSampleVelocities() {
+    return sampleValues[1];
+  }
+
+  /**
+   * Acquire a lease for the provided field to be updated at a minimum frequency, which expires if
+   * it is not renewed within one second. The frequency is applied on the next loop.
+   *
+   * @param field The {@link MotorField} to acquire a lease for.
+   * @param frequency The minimum {@link CANFrequency} to update the field at.
+   * @return The acquired {@link FrequencyLease}, which should be renewed while it is needed and
+   *     released once it is not.
+   */
+  public FrequencyLease acquireLease(MotorField field, CANFrequency frequency) {
+    return acquireLease(field, frequency, defaultLeaseSeconds);
+  }
 
   /**
-   * Updates a LogTable with the data to log.
+   * Acquire a lease for the provided field to be updated at a minimum frequency. The frequency is
+   * applied on the next loop.
    *
-   * @param table The table to which data should be written.
+   * @param field The {@link MotorField} to acquire a lease for.
+   * @param frequency The minimum {@link CANFrequency} to update the field at.
+   * @param timeoutSeconds The time (in seconds) the lease stays live without being renewed. Use
+   *     {@link Double#POSITIVE_INFINITY} for a lease that lasts until it is released.
+   * @return The acquired {@link FrequencyLease}.
    */
-  @Override
-  public void toLog(LogTable table) {
-    table.put("AppliedVolts", appliedVolts);
-    table.put("Connected", connected);
-    table.put("FaultActive", faultActive);
-    table.put("Faults", faults);
-    table.put("MotorTemperatureCelsius", motorTemperatureCelsius);
-    table.put("OutputCurrentAmps", outputCurrentAmps);
-    table.put("Position", position);
-    table.put("ProcessorTemperatureCelsius", processorTemperatureCelsius);
-    table.put("SupplyCurrentAmps", supplyCurrentAmps);
-    table.put("Velocity", velocity);
+  public FrequencyLease acquireLease(
+      MotorField field, CANFrequency frequency, double timeoutSeconds) {
+    FrequencyLease lease = new FrequencyLease(field, frequency, timeoutSeconds);
+    leases.add(lease);
+    return lease;
   }
 
   /**
-   * Updates data based on a LogTable.
+   * Set the frequency that a field is updated at when it has no live leases. Subclasses must have
+   * already configured the field's signals at this frequency.
    *
-   * @param table The table from which data should be read.
+   * @param field The {@link MotorField} to set the baseline frequency for.
+   * @param frequency The baseline {@link CANFrequency} of the field.
    */
-  @Override
-  public void fromLog(LogTable table) {
-    appliedVolts = table.get("AppliedVolts", appliedVolts);
-    connected = table.get("Connected", connected);
-    faultActive = table.get("FaultActive", faultActive);
-    faults = table.get("Faults", faults);
-    motorTemperatureCelsius = table.get("MotorTemperatureCelsius", motorTemperatureCelsius);
-    outputCurrentAmps = table.get("OutputCurrentAmps", outputCurrentAmps);
-    position = table.get("Position", position);
-    processorTemperatureCelsius =
-        table.get("ProcessorTemperatureCelsius", processorTemperatureCelsius);
-    supplyCurrentAmps = table.get("SupplyCurrentAmps", supplyCurrentAmps);
-    velocity = table.get("Velocity", velocity);
+  @SuppressWarnings("EnumOrdinal")
+  protected final void setBaselineFrequency(MotorField field, CANFrequency frequency) {
+    baselineFrequencies[field.ordinal()] = frequency;
+    appliedFrequencies[field.ordinal()] = frequency;
   }
 
   /**
-   * Check if the {@link MotorField} has been accessed and update the frequency if it has not.
+   * Renew the implicit lease that keeps a field at a fast frequency while it is being read.
    *
-   * @param field The {@link MotorField} to check.
+   * @param field The {@link MotorField} being read.
    */
   @SuppressWarnings("EnumOrdinal")
   private void markAccessed(MotorField field) {
-    int oldAccessed = accessed;
-    accessed |= (1 << field.ordinal());
-    if (accessed != oldAccessed) { // if the first time being accessed
-      setFrequency(field);
+    accessExpirations[field.ordinal()] = MotorDataBank.getLoopTimestamp() + accessLeaseSeconds;
+  }
+
+  /**
+   * Calculates the frequency of each field from its baseline and live leases, removing released
+   * leases, and applies every changed frequency in one batch. Expired leases are kept, as they are
+   * live again once renewed. Called once per loop by {@link
+   * MotorDataBank#periodic()}.
+   *
+   * @param timestamp The timestamp of the current loop, in seconds.
+   */
+  @SuppressWarnings("EnumOrdinal")
+  void updateFrequencies(double timestamp) {
+    for (int i = 0; i < fields.length; i++) {
+      targetFrequencies[i] =
+          timestamp < accessExpirations[i] ? CANFrequency.FAST : baselineFrequencies[i];
+    }
+
+    // Iterate in reverse so released leases can be removed in place
+    for (int i = leases.size() - 1; i >= 0; i--) {
+      FrequencyLease lease = leases.get(i);
+      if (lease.isReleased()) {
+        leases.remove(i);
+      } else if (lease.isLive(timestamp)) {
+        int index = lease.getField().ordinal();
+        targetFrequencies[index] = CANFrequency.max(targetFrequencies[index], lease.getFrequency());
+      }
+    }
+
+    int changedFields = 0;
+    for (int i = 0; i < fields.length; i++) {
+      if (targetFrequencies[i] != appliedFrequencies[i]) {
+        appliedFrequencies[i] = targetFrequencies[i];
+        changedFields |= 1 << i;
+      }
+    }
+    if (changedFields != 0) {
+      applyFrequencies(appliedFrequencies, changedFields);
     }
   }
 
   /**
-   * Set the frequency for the provided {@link MotorField}.
+   * Applies new update frequencies to the signals of the motor (controller), in as few calls as
+   * possible. Signals shared by multiple fields should use the fastest frequency of those fields.
    *
-   * @param field The {@link MotorField} to set the frequency for.
+   * @param frequencies The frequency of every field, indexed by {@link MotorField} ordinal.
+   * @param changedFields Bitmask of the fields whose frequency changed, by {@link MotorField}
+   *     ordinal.
    */
-  void setFrequency(MotorField field) {}
+  void applyFrequencies(CANFrequency[] frequencies, int changedFields) {}
 
   /** Get the applied voltage to the motor. */
   public double getAppliedVolts() {
     markAccessed(MotorField.APPLIED_VOLTS);
-    return appliedVolts;
+    return MotorDataBank.appliedVolts[row];
   }
 
   /**
@@ -130,18 +321,18 @@ public abstract class MotorData implements LoggableInputs {
    * @param raiseFrequency If true, raise the update frequency for the value.
    */
   public double getAppliedVolts(boolean raiseFrequency) {
-    return raiseFrequency ? getAppliedVolts() : appliedVolts;
+    return raiseFrequency ? getAppliedVolts() : MotorDataBank.appliedVolts[row];
   }
 
   /** Get whether the motor (controller) is connected. Might be unreliable with a SPARK. */
   public boolean getConnected() {
-    return connected;
+    return MotorDataBank.connected[row];
   }
 
   /** Get whether a fault is currently active on the motor (controller). */
   public boolean getFaultActive() {
     markAccessed(MotorField.FAULT_ACTIVE);
-    return faultActive;
+    return MotorDataBank.faultActive[row];
   }
 
   /**
@@ -150,28 +341,37 @@ public abstract class MotorData implements LoggableInputs {
    * @param raiseFrequency If true, raise the update frequency for the value.
    */
   public boolean getFaultActive(boolean raiseFrequency) {
-    return raiseFrequency ? getFaultActive() : faultActive;
+    return raiseFrequency ? getFaultActive() : MotorDataBank.faultActive[row];
   }
 
-  /** Get the string of the currently active faults on the motor (controller). */
-  public String getFaults() {
+  /** Get the bitmask of the currently active faults on the motor (controller). */
+  public int getFaults() {
     markAccessed(MotorField.FAULTS);
-    return faults;
+    return MotorDataBank.faults[row];
   }
 
   /**
-   * Get the string of the currently active faults on the motor (controller).
+   * Get the bitmask of the currently active faults on the motor (controller).
    *
    * @param raiseFrequency If true, raise the update frequency for the value.
    */
-  public String getFaults(boolean raiseFrequency) {
-    return raiseFrequency ? getFaults() : faults;
+  public int getFaults(boolean raiseFrequency) {
+    return raiseFrequency ? getFaults() : MotorDataBank.faults[row];
+  }
+
+  /**
+   * Get the string of the currently active faults on the motor (controller). Intended for
+   * dashboards and debugging, use {@link #getFaults()} in robot code. Does not raise the update
+   * frequency of the faults.
+   */
+  public String getFaultNames() {
+    return MotorFaults.decode(faultTable, MotorDataBank.faults[row]);
   }
 
   /** Get the temperature of the motor. */
   public double getMotorTemperatureCelsius() {
     markAccessed(MotorField.MOTOR_TEMP);
-    return motorTemperatureCelsius;
+    return MotorDataBank.motorTemperatureCelsius[row];
   }
 
   /**
@@ -180,7 +380,9 @@ public abstract class MotorData implements LoggableInputs {
    * @param raiseFrequency If true, raise the update frequency for the value.
    */
   public double getMotorTemperatureCelsius(boolean raiseFrequency) {
-    return raiseFrequency ? getMotorTemperatureCelsius() : motorTemperatureCelsius;
+    return raiseFrequency
+        ? getMotorTemperatureCelsius()
+        : MotorDataBank.motorTemperatureCelsius[row];
   }
 
   /**
@@ -189,7 +391,7 @@ public abstract class MotorData implements LoggableInputs {
    */
   public double getOutputCurrentAmps() {
     markAccessed(MotorField.OUTPUT_CURRENT);
-    return outputCurrentAmps;
+    return MotorDataBank.outputCurrentAmps[row];
   }
 
   /**
@@ -199,7 +401,7 @@ public abstract class MotorData implements LoggableInputs {
    * @param raiseFrequency If true, raise the update frequency for the value.
    */
   public double getOutputCurrentAmps(boolean raiseFrequency) {
-    return raiseFrequency ? getOutputCurrentAmps() : outputCurrentAmps;
+    return raiseFrequency ? getOutputCurrentAmps() : MotorDataBank.outputCurrentAmps[row];
   }
 
   /**
@@ -208,7 +410,7 @@ public abstract class MotorData implements LoggableInputs {
    */
   public double getPosition() {
     markAccessed(MotorField.POSITION);
-    return position;
+    return MotorDataBank.position[row];
   }
 
   /**
@@ -218,13 +420,13 @@ public abstract class MotorData implements LoggableInputs {
    * @param raiseFrequency If true, raise the update frequency for the value.
    */
   public double getPosition(boolean raiseFrequency) {
-    return raiseFrequency ? getPosition() : position;
+    return raiseFrequency ? getPosition() : MotorDataBank.position[row];
   }
 
   /** Get the temperature of the motor controller. Not applicable on a SPARK. */
   public double getProcessorTemperatureCelsius() {
     markAccessed(MotorField.PROCESSOR_TEMP);
-    return processorTemperatureCelsius;
+    return MotorDataBank.processorTemperatureCelsius[row];
   }
 
   /**
@@ -233,13 +435,15 @@ public abstract class MotorData implements LoggableInputs {
    * @param raiseFrequency If true, raise the update frequency for the value.
    */
   public double getProcessorTemperatureCelsius(boolean raiseFrequency) {
-    return raiseFrequency ? getProcessorTemperatureCelsius() : processorTemperatureCelsius;
+    return raiseFrequency
+        ? getProcessorTemperatureCelsius()
+        : MotorDataBank.processorTemperatureCelsius[row];
   }
 
   /** Get the supply current provided to the motor controller. */
   public double getSupplyCurrentAmps() {
     markAccessed(MotorField.SUPPLY_CURRENT);
-    return supplyCurrentAmps;
+    return MotorDataBank.supplyCurrentAmps[row];
   }
 
   /**
@@ -248,7 +452,7 @@ public abstract class MotorData implements LoggableInputs {
    * @param raiseFrequency If true, raise the update frequency for the value.
    */
   public double getSupplyCurrentAmps(boolean raiseFrequency) {
-    return raiseFrequency ? getSupplyCurrentAmps() : supplyCurrentAmps;
+    return raiseFrequency ? getSupplyCurrentAmps() : MotorDataBank.supplyCurrentAmps[row];
   }
 
   /**
@@ -258,7 +462,7 @@ public abstract class MotorData implements LoggableInputs {
    */
   public double getVelocity() {
     markAccessed(MotorField.VELOCITY);
-    return velocity;
+    return MotorDataBank.velocity[row];
   }
 
   /**
@@ -268,6 +472,165 @@ public abstract class MotorData implements LoggableInputs {
    * @param raiseFrequency If true, raise the update frequency for the value.
    */
   public double getVelocity(boolean raiseFrequency) {
-    return raiseFrequency ? getVelocity() : velocity;
+    return raiseFrequency ? getVelocity() : MotorDataBank.velocity[row];
+  }
+
+  /**
+   * Get the FPGA timestamp (in seconds) that the position and velocity were measured at by the
+   * motor (controller), accounting for CAN latency.
+   */
+  public double getTimestamp() {
+    return MotorDataBank.timestamp[row];
+  }
+
+  /** Get the latency (in seconds) between the position and velocity being measured and read. */
+  public double getLatencySeconds() {
+    return MotorDataBank.latencySeconds[row];
+  }
+
+  /**
+   * Get the position reported by the motor (controller), compensated for latency using the
+   * velocity. Only compensated on a Talon, equal to {@link #getPosition()} otherwise.
+   */
+  public double getCompensatedPosition() {
+    markAccessed(MotorField.POSITION);
+    markAccessed(MotorField.VELOCITY);
+    return MotorDataBank.compensatedPosition[row];
+  }
+
+  /**
+   * Get the velocity reported by the motor (controller), compensated for latency using the
+   * acceleration. Only compensated on a Talon, equal to {@link #getVelocity()} otherwise.
+   */
+  public double getCompensatedVelocity() {
+    markAccessed(MotorField.VELOCITY);
+    return MotorDataBank.compensatedVelocity[row];
+  }
+
+  /**
+   * Set the applied voltage to the motor.
+   *
+   * @param appliedVolts The applied voltage to the motor.
+   */
+  protected final void setAppliedVolts(double appliedVolts) {
+    MotorDataBank.appliedVolts[row] = appliedVolts;
+  }
+
+  /**
+   * Set whether the motor (controller) is connected.
+   *
+   * @param connected Whether the motor (controller) is connected.
+   */
+  protected final void setConnected(boolean connected) {
+    MotorDataBank.connected[row] = connected;
+  }
+
+  /**
+   * Set whether a fault is currently active on the motor (controller).
+   *
+   * @param faultActive Whether a fault is currently active on the motor (controller).
+   */
+  protected final void setFaultActive(boolean faultActive) {
+    MotorDataBank.faultActive[row] = faultActive;
+  }
+
+  /**
+   * Set the bitmask of the currently active faults on the motor (controller).
+   *
+   * @param faults The fault bitmask, with bits matching the {@link MotorFaults} table in use.
+   */
+  protected final void setFaults(int faults) {
+    MotorDataBank.faults[row] = faults;
+  }
+
+  /**
+   * Set the temperature of the motor.
+   *
+   * @param motorTemperatureCelsius The temperature of the motor.
+   */
+  protected final void setMotorTemperatureCelsius(double motorTemperatureCelsius) {
+    MotorDataBank.motorTemperatureCelsius[row] = motorTemperatureCelsius;
+  }
+
+  /**
+   * Set the output current of the motor. This is the general output current on a SPARK and the
+   * torque current on a Talon.
+   *
+   * @param outputCurrentAmps The output current of the motor.
+   */
+  protected final void setOutputCurrentAmps(double outputCurrentAmps) {
+    MotorDataBank.outputCurrentAmps[row] = outputCurrentAmps;
+  }
+
+  /**
+   * Set the position reported by the motor (controller).
+   *
+   * @param position The position reported by the motor (controller).
+   */
+  protected final void setPosition(double position) {
+    MotorDataBank.position[row] = position;
+  }
+
+  /**
+   * Set the temperature of the motor controller.
+   *
+   * @param processorTemperatureCelsius The temperature of the motor controller.
+   */
+  protected final void setProcessorTemperatureCelsius(double processorTemperatureCelsius) {
+    MotorDataBank.processorTemperatureCelsius[row] = processorTemperatureCelsius;
+  }
+
+  /**
+   * Set the supply current provided to the motor controller.
+   *
+   * @param supplyCurrentAmps The supply current provided to the motor controller.
+   */
+  protected final void setSupplyCurrentAmps(double supplyCurrentAmps) {
+    MotorDataBank.supplyCurrentAmps[row] = supplyCurrentAmps;
+  }
+
+  /**
+   * Set the velocity reported by the motor (controller).
+   *
+   * @param velocity The velocity reported by the motor (controller).
+   */
+  protected final void setVelocity(double velocity) {
+    MotorDataBank.velocity[row] = velocity;
+  }
+
+  /**
+   * Set the FPGA timestamp that the position and velocity were measured at.
+   *
+   * @param timestamp The FPGA timestamp (in seconds) that the values were measured at.
+   */
+  protected final void setTimestamp(double timestamp) {
+    MotorDataBank.timestamp[row] = timestamp;
+  }
+
+  /**
+   * Set the latency between the position and velocity being measured and read.
+   *
+   * @param latencySeconds The latency (in seconds) of the measured values.
+   */
+  protected final void setLatencySeconds(double latencySeconds) {
+    MotorDataBank.latencySeconds[row] = latencySeconds;
+  }
+
+  /**
+   * Set the latency-compensated position reported by the motor (controller).
+   *
+   * @param compensatedPosition The latency-compensated position.
+   */
+  protected final void setCompensatedPosition(double compensatedPosition) {
+    MotorDataBank.compensatedPosition[row] = compensatedPosition;
+  }
+
+  /**
+   * Set the latency-compensated velocity reported by the motor (controller).
+   *
+   * @param compensatedVelocity The latency-compensated velocity.
+   */
+  protected final void setCompensatedVelocity(double compensatedVelocity) {
+    MotorDataBank.compensatedVelocity[row] = compensatedVelocity;
   }
 }
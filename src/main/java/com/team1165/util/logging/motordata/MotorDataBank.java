@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.motordata;
+
+import edu.wpi.first.util.struct.Struct;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import org.littletonrobotics.junction.LogTable;
+import org.littletonrobotics.junction.Logger;
+import org.littletonrobotics.junction.inputs.LoggableInputs;
+
+/**
+ * Struct-of-arrays storage for every registered {@link MotorData}.
+ *
+ * <p>Each {@link MotorData} is a view over a single row of this bank. All fields are stored in
+ * primitive columns, and the whole bank is logged as a single WPILib struct array each loop through
+ * {@link #periodic()}, instead of ten separate string-keyed values per motor.
+ */
+public final class MotorDataBank implements LoggableInputs {
+  /** Key that the bank is logged under. */
+  private static final String logKey = "MotorData";
+
+  /** Single instance used to log the bank through AdvantageKit. */
+  static final MotorDataBank inputs = new MotorDataBank();
+
+  /** Struct used to serialize each row of the bank. */
+  static final Struct<MotorDataRow> struct = new MotorDataStruct();
+
+  /** Key that the health statistics are logged under. */
+  private static final String healthKey = "MotorData/Health/";
+
+  /** Number of loops between each time the health statistics are logged. */
+  private static final int healthLogPeriod = 25;
+
+  /** Empty array used as the default value when reading from a LogTable. */
+  private static final byte[] emptyData = new byte[0];
+
+  /** All registered {@link MotorData} views, indexed by row. */
+  private static MotorData[] motors = new MotorData[0];
+
+  /** Names of all registered {@link MotorData} views, indexed by row. */
+  private static String[] names = new String[0];
+
+  /** Rows reused to serialize the bank each loop, indexed by row. */
+  private static MotorDataRow[] rows = new MotorDataRow[0];
+
+  // Columns containing the data of each motor, indexed by row
+  static double[] appliedVolts = new double[0];
+  static boolean[] connected = new boolean[0];
+  static boolean[] faultActive = new boolean[0];
+  static int[] faults = new int[0];
+  static double[] motorTemperatureCelsius = new double[0];
+  static double[] outputCurrentAmps = new double[0];
+  static double[] position = new double[0];
+  static double[] processorTemperatureCelsius = new double[0];
+  static double[] supplyCurrentAmps = new double[0];
+  static double[] velocity = new double[0];
+  static double[] timestamp = new double[0];
+  static double[] latencySeconds = new double[0];
+  static double[] compensatedPosition = new double[0];
+  static double[] compensatedVelocity = new double[0];
+
+  // Arrays reused to log the health statistics of each motor, indexed by row
+  private static double[] healthSupplyCurrentAverage = new double[0];
+  private static double[] healthOutputCurrentAverage = new double[0];
+  private static double[] healthPeakOutputCurrent = new double[0];
+  private static double[] healthOutputCurrentPercentile = new double[0];
+  private static double[] healthAmpSeconds = new double[0];
+  private static double[] healthTemperatureSlope = new double[0];
+
+  /** Timestamp of the last loop, in seconds, or NaN before the first loop. */
+  private static double lastTimestamp = Double.NaN;
+
+  /** Number of loops since the health statistics were last logged. */
+  private static int loopsSinceHealthLog = 0;
+
+  /** Private constructor to prevent outside instantiation. */
+  private MotorDataBank() {}
+
+  /**
+   * Applies any changed update frequencies, updates every registered {@link MotorData}, logs the
+   * entire bank as a single struct array, then records each motor's history and health statistics.
+   * Should be called once per loop, after all Phoenix signals have been refreshed.
+   */
+  public static void periodic() {
+    double now = Logger.getTimestamp() / 1e6;
+    double dt = Double.isNaN(lastTimestamp) ? 0.0 : now - lastTimestamp;
+    lastTimestamp = now;
+
+    // Apply frequencies from the leases of the last loop in one batch, before reading new data
+    for (MotorData motor : motors) {
+      motor.updateFrequencies(now);
+    }
+
+    for (MotorData motor : motors) {
+      motor.drainSamples();
+      motor.update();
+    }
+    Logger.processInputs(logKey, inputs);
+
+    // Record history and health after processing inputs so they use replayed values during replay
+    for (MotorData motor : motors) {
+      motor.recordHistory();
+      motor.updateHealth(dt);
+    }
+
+    if (++loopsSinceHealthLog >= healthLogPeriod) {
+      loopsSinceHealthLog = 0;
+      logHealth();
+    }
+  }
+
+  /** Logs the health statistics of every motor, one array per statistic indexed by row. */
+  private static void logHealth() {
+    for (int i = 0; i < motors.length; i++) {
+      MotorHealth health = motors[i].getHealth();
+      healthSupplyCurrentAverage[i] = health.getSupplyCurrentAverage();
+      healthOutputCurrentAverage[i] = health.getOutputCurrentAverage();
+      healthPeakOutputCurrent[i] = health.getPeakOutputCurrent();
+      healthOutputCurrentPercentile[i] = health.getOutputCurrentPercentile();
+      healthAmpSeconds[i] = health.getAmpSeconds();
+      healthTemperatureSlope[i] = health.getTemperatureSlope();
+    }
+
+    Logger.recordOutput(healthKey + "SupplyCurrentAverage", healthSupplyCurrentAverage);
+    Logger.recordOutput(healthKey + "OutputCurrentAverage", healthOutputCurrentAverage);
+    Logger.recordOutput(healthKey + "PeakOutputCurrent", healthPeakOutputCurrent);
+    Logger.recordOutput(healthKey + "OutputCurrentPercentile", healthOutputCurrentPercentile);
+    Logger.recordOutput(healthKey + "AmpSeconds", healthAmpSeconds);
+    Logger.recordOutput(healthKey + "TemperatureSlope", healthTemperatureSlope);
+  }
+
+  /**
+   * Returns the timestamp (in seconds) of the current loop, as recorded at the start of {@link
+   * #periodic()}, or 0 before the first loop. Used to time frequency leases without reading the
+   * clock on every access.
+   */
+  static double getLoopTimestamp() {
+    return Double.isNaN(lastTimestamp) ? 0.0 : lastTimestamp;
+  }
+
+  /** Returns the number of {@link MotorData} views registered with the bank. */
+  public static int size() {
+    return motors.length;
+  }
+
+  /**
+   * Registers a {@link MotorData} with the bank, growing every column by one row.
+   *
+   * @param motor The {@link MotorData} to register.
+   * @param name The name of the motor in logs.
+   * @return The row assigned to the {@link MotorData}.
+   */
+  static int register(MotorData motor, String name) {
+    int row = motors.length;
+    int newSize = row + 1;
+
+    motors = Arrays.copyOf(motors, newSize);
+    motors[row] = motor;
+    names = Arrays.copyOf(names, newSize);
+    names[row] = name;
+    rows = Arrays.copyOf(rows, newSize);
+    rows[row] = new MotorDataRow();
+
+    appliedVolts = Arrays.copyOf(appliedVolts, newSize);
+    connected = Arrays.copyOf(connected, newSize);
+    faultActive = Arrays.copyOf(faultActive, newSize);
+    faults = Arrays.copyOf(faults, newSize);
+    motorTemperatureCelsius = Arrays.copyOf(motorTemperatureCelsius, newSize);
+    outputCurrentAmps = Arrays.copyOf(outputCurrentAmps, newSize);
+    position = Arrays.copyOf(position, newSize);
+    processorTemperatureCelsius = Arrays.copyOf(processorTemperatureCelsius, newSize);
+    supplyCurrentAmps = Arrays.copyOf(supplyCurrentAmps, newSize);
+    velocity = Arrays.copyOf(velocity, newSize);
+    timestamp = Arrays.copyOf(timestamp, newSize);
+    latencySeconds = Arrays.copyOf(latencySeconds, newSize);
+    compensatedPosition = Arrays.copyOf(compensatedPosition, newSize);
+    compensatedVelocity = Arrays.copyOf(compensatedVelocity, newSize);
+
+    healthSupplyCurrentAverage = Arrays.copyOf(healthSupplyCurrentAverage, newSize);
+    healthOutputCurrentAverage = Arrays.copyOf(healthOutputCurrentAverage, newSize);
+    healthPeakOutputCurrent = Arrays.copyOf(healthPeakOutputCurrent, newSize);
+    healthOutputCurrentPercentile = Arrays.copyOf(healthOutputCurrentPercentile, newSize);
+    healthAmpSeconds = Arrays.copyOf(healthAmpSeconds, newSize);
+    healthTemperatureSlope = Arrays.copyOf(healthTemperatureSlope, newSize);
+
+    return row;
+  }
+
+  /**
+   * Updates a LogTable with the data to log.
+   *
+   * @param table The table to which data should be written.
+   */
+  @Override
+  public void toLog(LogTable table) {
+    for (int row = 0; row < rows.length; row++) {
+      rows[row].copyFrom(row);
+    }
+    table.put("Names", names);
+    table.put("Data", struct, rows);
+  }
+
+  /**
+   * Updates data based on a LogTable.
+   *
+   * @param table The table from which data should be read.
+   */
+  @Override
+  public void fromLog(LogTable table) {
+    // Read the raw struct array directly into the columns to avoid creating any objects
+    ByteBuffer buffer =
+        ByteBuffer.wrap(table.get("Data", emptyData)).order(ByteOrder.LITTLE_ENDIAN);
+    int count = Math.min(motors.length, buffer.remaining() / struct.getSize());
+    for (int row = 0; row < count; row++) {
+      MotorDataStruct.unpackRow(buffer, row);
+    }
+  }
+
+  /** {@link Struct} used to serialize a single row of the {@link MotorDataBank}. */
+  private static final class MotorDataStruct implements Struct<MotorDataRow> {
+    @Override
+    public Class<MotorDataRow> getTypeClass() {
+      return MotorDataRow.class;
+    }
+
+    @Override
+    public String getTypeName() {
+      return "MotorData";
+    }
+
+    @Override
+    public int getSize() {
+      return kSizeDouble * 11 + kSizeBool * 2 + kSizeInt32;
+    }
+
+    @Override
+    public String getSchema() {
+      return "double appliedVolts;bool connected;bool faultActive;int32 faults;"
+          + "double motorTemperatureCelsius;double outputCurrentAmps;double position;"
+          + "double processorTemperatureCelsius;double supplyCurrentAmps;double velocity;"
+          + "double timestamp;double latencySeconds;double compensatedPosition;"
+          + "double compensatedVelocity";
+    }
+
+    @Override
+    public MotorDataRow unpack(ByteBuffer bb) {
+      MotorDataRow value = new MotorDataRow();
+      value.appliedVolts = bb.getDouble();
+      value.connected = bb.get() != 0;
+      value.faultActive = bb.get() != 0;
+      value.faults = bb.getInt();
+      value.motorTemperatureCelsius = bb.getDouble();
+      value.outputCurrentAmps = bb.getDouble();
+      value.position = bb.getDouble();
+      value.processorTemperatureCelsius = bb.getDouble();
+      value.supplyCurrentAmps = bb.getDouble();
+      value.velocity = bb.getDouble();
+      value.timestamp = bb.getDouble();
+      value.latencySeconds = bb.getDouble();
+      value.compensatedPosition = bb.getDouble();
+      value.compensatedVelocity = bb.getDouble();
+      return value;
+    }
+
+    @Override
+    public void pack(ByteBuffer bb, MotorDataRow value) {
+      bb.putDouble(value.appliedVolts);
+      bb.put(value.connected ? (byte) 1 : (byte) 0);
+      bb.put(value.faultActive ? (byte) 1 : (byte) 0);
+      bb.putInt(value.faults);
+      bb.putDouble(value.motorTemperatureCelsius);
+      bb.putDouble(value.outputCurrentAmps);
+      bb.putDouble(value.position);
+      bb.putDouble(value.processorTemperatureCelsius);
+      bb.putDouble(value.supplyCurrentAmps);
+      bb.putDouble(value.velocity);
+      bb.putDouble(value.timestamp);
+      bb.putDouble(value.latencySeconds);
+      bb.putDouble(value.compensatedPosition);
+      bb.putDouble(value.compensatedVelocity);
+    }
+
+    /**
+     * Unpacks a single row from the provided buffer directly into the bank's columns, without
+     * creating a {@link MotorDataRow}.
+     *
+     * @param bb The buffer to read from, positioned at the start of the row.
+     * @param row The row of the bank to write to.
+     */
+    static void unpackRow(ByteBuffer bb, int row) {
+      appliedVolts[row] = bb.getDouble();
+      connected[row] = bb.get() != 0;
+      faultActive[row] = bb.get() != 0;
+      faults[row] = bb.getInt();
+      motorTemperatureCelsius[row] = bb.getDouble();
+      outputCurrentAmps[row] = bb.getDouble();
+      position[row] = bb.getDouble();
+      processorTemperatureCelsius[row] = bb.getDouble();
+      supplyCurrentAmps[row] = bb.getDouble();
+      velocity[row] = bb.getDouble();
+      timestamp[row] = bb.getDouble();
+      latencySeconds[row] = bb.getDouble();
+      compensatedPosition[row] = bb.getDouble();
+      compensatedVelocity[row] = bb.getDouble();
+    }
+  }
+}
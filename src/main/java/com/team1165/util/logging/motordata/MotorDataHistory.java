@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.motordata;
+
+/**
+ * Fixed-capacity, time-indexed history of the position, velocity, and output current of a {@link
+ * MotorData}.
+ *
+ * <p>Values are stored in parallel primitive ring arrays, and queries use a binary search with
+ * linear interpolation, so looking up a value at a specific time is O(log n) and never allocates.
+ * Timestamps are FPGA timestamps (in seconds), matching {@link MotorData#getTimestamp()}.
+ */
+public final class MotorDataHistory {
+  private final double[] timestamps;
+  private final double[] positions;
+  private final double[] velocities;
+  private final double[] currents;
+
+  /** Physical index of the oldest entry. */
+  private int start = 0;
+
+  /** Number of entries currently stored. */
+  private int size = 0;
+
+  /**
+   * Creates a new {@link MotorDataHistory}.
+   *
+   * @param capacity The maximum number of entries to store before the oldest are overwritten.
+   */
+  MotorDataHistory(int capacity) {
+    timestamps = new double[capacity];
+    positions = new double[capacity];
+    velocities = new double[capacity];
+    currents = new double[capacity];
+  }
+
+  /** Returns the maximum number of entries that can be stored. */
+  public int capacity() {
+    return timestamps.length;
+  }
+
+  /** Returns the number of entries currently stored. */
+  public int size() {
+    return size;
+  }
+
+  /** Returns the timestamp of the oldest entry, or {@link Double#NaN} if there are no entries. */
+  public double getOldestTimestamp() {
+    return size == 0 ? Double.NaN : timestamps[start];
+  }
+
+  /** Returns the timestamp of the newest entry, or {@link Double#NaN} if there are no entries. */
+  public double getNewestTimestamp() {
+    return size == 0 ? Double.NaN : timestamps[physicalIndex(size - 1)];
+  }
+
+  /**
+   * Adds an entry to the history, overwriting the oldest entry if full. Entries that are not newer
+   * than the newest stored entry are ignored.
+   *
+   * @param timestamp The FPGA timestamp (in seconds) of the entry.
+   * @param position The position at the timestamp.
+   * @param velocity The velocity at the timestamp.
+   * @param current The output current at the timestamp.
+   */
+  void add(double timestamp, double position, double velocity, double current) {
+    int capacity = timestamps.length;
+    if (capacity == 0 || (size > 0 && timestamp <= timestamps[physicalIndex(size - 1)])) {
+      return;
+    }
+
+    int index;
+    if (size < capacity) {
+      index = physicalIndex(size);
+      size++;
+    } else {
+      index = start;
+      start = (start + 1) % capacity;
+    }
+
+    timestamps[index] = timestamp;
+    positions[index] = position;
+    velocities[index] = velocity;
+    currents[index] = current;
+  }
+
+  /**
+   * Get the position at the provided time, interpolated between the nearest entries. Times outside
+   * the stored range return the oldest or newest entry.
+   *
+   * @param timestamp The FPGA timestamp (in seconds) to get the position at.
+   * @return The position at the provided time, or {@link Double#NaN} if there are no entries.
+   */
+  public double getPositionAt(double timestamp) {
+    return interpolate(positions, timestamp);
+  }
+
+  /**
+   * Get the velocity at the provided time, interpolated between the nearest entries. Times outside
+   * the stored range return the oldest or newest entry.
+   *
+   * @param timestamp The FPGA timestamp (in seconds) to get the velocity at.
+   * @return The velocity at the provided time, or {@link Double#NaN} if there are no entries.
+   */
+  public double getVelocityAt(double timestamp) {
+    return interpolate(velocities, timestamp);
+  }
+
+  /**
+   * Get the output current at the provided time, interpolated between the nearest entries. Times
+   * outside the stored range return the oldest or newest entry.
+   *
+   * @param timestamp The FPGA timestamp (in seconds) to get the output current at.
+   * @return The output current at the provided time, or {@link Double#NaN} if there are no entries.
+   */
+  public double getCurrentAt(double timestamp) {
+    return interpolate(currents, timestamp);
+  }
+
+  /** Removes all entries from the history. */
+  public void clear() {
+    start = 0;
+    size = 0;
+  }
+
+  /**
+   * Interpolates a value from the provided column at the provided time.
+   *
+   * @param column The column to interpolate a value from.
+   * @param timestamp The timestamp to interpolate at.
+   * @return The interpolated value, or {@link Double#NaN} if there are no entries.
+   */
+  private double interpolate(double[] column, double timestamp) {
+    if (size == 0) {
+      return Double.NaN;
+    }
+
+    // Clamp to the stored range
+    if (timestamp <= timestamps[start]) {
+      return column[start];
+    }
+    int newest = physicalIndex(size - 1);
+    if (timestamp >= timestamps[newest]) {
+      return column[newest];
+    }
+
+    // Binary search for the first entry newer than the timestamp
+    int low = 1;
+    int high = size - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (timestamps[physicalIndex(mid)] <= timestamp) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    // Interpolate between the entry before and the entry after the timestamp
+    int after = physicalIndex(low);
+    int before = physicalIndex(low - 1);
+    double t = (timestamp - timestamps[before]) / (timestamps[after] - timestamps[before]);
+    return column[before] + (column[after] - column[before]) * t;
+  }
+
+  /**
+   * Converts a logical index (0 being the oldest entry) to a physical index in the arrays.
+   *
+   * @param logicalIndex The logical index to convert.
+   * @return The physical index in the arrays.
+   */
+  private int physicalIndex(int logicalIndex) {
+    int index = start + logicalIndex;
+    return index >= timestamps.length ? index - timestamps.length : index;
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.motordata;
+
+/**
+ * Detached copy of a single row of the {@link MotorDataBank}, as serialized in the logged struct
+ * array.
+ *
+ * <p>Unlike a {@link MotorData}, a row is not registered with the bank and holds its own values, so
+ * it can be unpacked from a log by any tool that reads the MotorData struct.
+ */
+public final class MotorDataRow {
+  double appliedVolts;
+  boolean connected;
+  boolean faultActive;
+  int faults;
+  double motorTemperatureCelsius;
+  double outputCurrentAmps;
+  double position;
+  double processorTemperatureCelsius;
+  double supplyCurrentAmps;
+  double velocity;
+  double timestamp;
+  double latencySeconds;
+  double compensatedPosition;
+  double compensatedVelocity;
+
+  /** Creates a new {@link MotorDataRow} with every value set to zero. */
+  MotorDataRow() {}
+
+  /**
+   * Copies every value from a row of the {@link MotorDataBank} into this instance.
+   *
+   * @param row The row of the bank to copy from.
+   */
+  void copyFrom(int row) {
+    appliedVolts = MotorDataBank.appliedVolts[row];
+    connected = MotorDataBank.connected[row];
+    faultActive = MotorDataBank.faultActive[row];
+    faults = MotorDataBank.faults[row];
+    motorTemperatureCelsius = MotorDataBank.motorTemperatureCelsius[row];
+    outputCurrentAmps = MotorDataBank.outputCurrentAmps[row];
+    position = MotorDataBank.position[row];
+    processorTemperatureCelsius = MotorDataBank.processorTemperatureCelsius[row];
+    supplyCurrentAmps = MotorDataBank.supplyCurrentAmps[row];
+    velocity = MotorDataBank.velocity[row];
+    timestamp = MotorDataBank.timestamp[row];
+    latencySeconds = MotorDataBank.latencySeconds[row];
+    compensatedPosition = MotorDataBank.compensatedPosition[row];
+    compensatedVelocity = MotorDataBank.compensatedVelocity[row];
+  }
+
+  /** Get the applied voltage to the motor. */
+  public double getAppliedVolts() {
+    return appliedVolts;
+  }
+
+  /** Get whether the motor (controller) was connected. */
+  public boolean getConnected() {
+    return connected;
+  }
+
+  /** Get whether a fault was active on the motor (controller). */
+  public boolean getFaultActive() {
+    return faultActive;
+  }
+
+  /** Get the bitmask of the active faults on the motor (controller). */
+  public int getFaults() {
+    return faults;
+  }
+
+  /** Get the temperature of the motor. */
+  public double getMotorTemperatureCelsius() {
+    return motorTemperatureCelsius;
+  }
+
+  /** Get the output current of the motor. */
+  public double getOutputCurrentAmps() {
+    return outputCurrentAmps;
+  }
+
+  /** Get the position reported by the motor (controller). */
+  public double getPosition() {
+    return position;
+  }
+
+  /** Get the temperature of the motor controller. */
+  public double getProcessorTemperatureCelsius() {
+    return processorTemperatureCelsius;
+  }
+
+  /** Get the supply current provided to the motor controller. */
+  public double getSupplyCurrentAmps() {
+    return supplyCurrentAmps;
+  }
+
+  /** Get the velocity reported by the motor (controller). */
+  public double getVelocity() {
+    return velocity;
+  }
+
+  /** Get the FPGA timestamp (in seconds) that the position and velocity were measured at. */
+  public double getTimestamp() {
+    return timestamp;
+  }
+
+  /** Get the latency (in seconds) between the position and velocity being measured and read. */
+  public double getLatencySeconds() {
+    return latencySeconds;
+  }
+
+  /** Get the latency-compensated position reported by the motor (controller). */
+  public double getCompensatedPosition() {
+    return compensatedPosition;
+  }
+
+  /** Get the latency-compensated velocity reported by the motor (controller). */
+  public double getCompensatedVelocity() {
+    return compensatedVelocity;
+  }
+}
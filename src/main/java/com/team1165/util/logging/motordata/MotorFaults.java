@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.motordata;
+
+/**
+ * Class containing precomputed tables used to decode a fault bitmask from {@link MotorData} into a
+ * readable string.
+ *
+ * <p>Every possible combination of faults is built once when the class is loaded, so decoding a
+ * bitmask is a single array lookup and never allocates.
+ */
+final class MotorFaults {
+  /** Fault names for a Talon FX, in bit order. */
+  static final String[] talon =
+      createTable("BootDuringEnable", "DeviceTemp", "Hardware", "ProcTemp");
+
+  /** Fault names for a SPARK (MAX/FLEX), in bit order. */
+  static final String[] spark =
+      createTable(
+          "other",
+          "motorType",
+          "sensor",
+          "can",
+          "temperature",
+          "gateDriver",
+          "escEeprom",
+          "firmware");
+
+  /** Generic fault names, used when the motor (controller) does not have named faults. */
+  static final String[] generic =
+      createTable("Fault0", "Fault1", "Fault2", "Fault3", "Fault4", "Fault5", "Fault6", "Fault7");
+
+  /** Private constructor to prevent instantiation. */
+  private MotorFaults() {}
+
+  /**
+   * Decodes a fault bitmask using the provided table. Bits outside the range of the table are
+   * ignored.
+   *
+   * @param table The table to decode the bitmask with.
+   * @param faults The fault bitmask to decode.
+   * @return The interned string of all active faults, each followed by a space.
+   */
+  static String decode(String[] table, int faults) {
+    return table[faults & (table.length - 1)];
+  }
+
+  /**
+   * Creates a table containing the string for every possible combination of the provided faults.
+   *
+   * @param names The names of each fault, where the index of each name is its bit in the bitmask.
+   * @return The table of fault strings, indexed by bitmask.
+   */
+  private static String[] createTable(String... names) {
+    String[] table = new String[1 << names.length];
+    for (int mask = 0; mask < table.length; mask++) {
+      StringBuilder builder = new StringBuilder();
+      for (int bit = 0; bit < names.length; bit++) {
+        if ((mask & (1 << bit)) != 0) {
+          builder.append(names[bit]).append(' ');
+        }
+      }
+      table[mask] = builder.toString().intern();
+    }
+    return table;
+  }
+}
@@ -7,8 +7,11 @@
 
 package com.team1165.util.logging.motordata;
 
-/** Enum representing the fields collected by {@link MotorData}. */
-enum MotorField {
+/**
+ * Enum representing the fields collected by {@link MotorData}, used to request update frequencies
+ * through {@link MotorData#acquireLease}.
+ */
+public enum MotorField {
   APPLIED_VOLTS,
   FAULT_ACTIVE,
   FAULTS,
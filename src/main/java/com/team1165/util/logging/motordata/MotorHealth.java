@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.motordata;
+
+/**
+ * Streaming health statistics of a {@link MotorData}, updated once per loop.
+ *
+ * <p>Every statistic is updated in O(1) per sample without allocating, so they can be used live
+ * (for example, to throttle a mechanism before it reaches a thermal fault) instead of being
+ * calculated afterward from a log.
+ */
+public final class MotorHealth {
+  /** Time constant of the current averages, in seconds. */
+  private static final double currentTimeConstant = 1.0;
+
+  /** Time constant of the temperature slope average, in seconds. */
+  private static final double temperatureTimeConstant = 10.0;
+
+  /** Quantile of the output current that is estimated. */
+  private static final double currentQuantile = 0.95;
+
+  private final P2Quantile outputCurrentPercentile = new P2Quantile(currentQuantile);
+
+  private boolean initialized = false;
+  private double supplyCurrentAverage = 0.0;
+  private double outputCurrentAverage = 0.0;
+  private double peakOutputCurrent = 0.0;
+  private double ampSeconds = 0.0;
+  private double temperatureSlope = 0.0;
+  private double lastTemperature = 0.0;
+  private double temperature = 0.0;
+
+  /** Package-private constructor, health statistics are only created by {@link MotorData}. */
+  MotorHealth() {}
+
+  /**
+   * Adds a sample to the statistics.
+   *
+   * @param dt The time since the last sample, in seconds.
+   * @param supplyCurrent The supply current of the motor.
+   * @param outputCurrent The output current of the motor.
+   * @param temperature The temperature of the motor.
+   */
+  void update(double dt, double supplyCurrent, double outputCurrent, double temperature) {
+    double absSupplyCurrent = Math.abs(supplyCurrent);
+    double absOutputCurrent = Math.abs(outputCurrent);
+    this.temperature = temperature;
+
+    outputCurrentPercentile.add(absOutputCurrent);
+    peakOutputCurrent = Math.max(peakOutputCurrent, absOutputCurrent);
+
+    // Seed the averages with the first sample, instead of ramping up from zero
+    if (!initialized) {
+      supplyCurrentAverage = absSupplyCurrent;
+      outputCurrentAverage = absOutputCurrent;
+      lastTemperature = temperature;
+      initialized = true;
+      return;
+    }
+    if (dt <= 0.0) {
+      return;
+    }
+
+    double currentAlpha = 1.0 - Math.exp(-dt / currentTimeConstant);
+    supplyCurrentAverage += (absSupplyCurrent - supplyCurrentAverage) * currentAlpha;
+    outputCurrentAverage += (absOutputCurrent - outputCurrentAverage) * currentAlpha;
+    ampSeconds += absSupplyCurrent * dt;
+
+    // Temperature is only reported in coarse steps, so the slope is averaged over a long window
+    double temperatureAlpha = 1.0 - Math.exp(-dt / temperatureTimeConstant);
+    temperatureSlope +=
+        ((temperature - lastTemperature) / dt - temperatureSlope) * temperatureAlpha;
+    lastTemperature = temperature;
+  }
+
+  /** Returns the exponentially weighted moving average of the supply current, in amps. */
+  public double getSupplyCurrentAverage() {
+    return supplyCurrentAverage;
+  }
+
+  /** Returns the exponentially weighted moving average of the output current, in amps. */
+  public double getOutputCurrentAverage() {
+    return outputCurrentAverage;
+  }
+
+  /** Returns the highest output current seen since the last reset, in amps. */
+  public double getPeakOutputCurrent() {
+    return peakOutputCurrent;
+  }
+
+  /** Returns the estimated 95th percentile of the output current since the last reset, in amps. */
+  public double getOutputCurrentPercentile() {
+    return outputCurrentPercentile.get();
+  }
+
+  /** Returns the total charge drawn from the supply since the last reset, in amp-seconds. */
+  public double getAmpSeconds() {
+    return ampSeconds;
+  }
+
+  /**
+   * Returns the smoothed rate of change of the motor temperature, in degrees Celsius per second.
+   */
+  public double getTemperatureSlope() {
+    return temperatureSlope;
+  }
+
+  /**
+   * Predicts the temperature of the motor after the provided time, assuming the current temperature
+   * slope continues.
+   *
+   * @param seconds The time to predict ahead, in seconds.
+   * @return The predicted temperature, in degrees Celsius.
+   */
+  public double getPredictedTemperatureCelsius(double seconds) {
+    return temperature + temperatureSlope * seconds;
+  }
+
+  /** Resets all statistics, for example at the start of a match. */
+  public void reset() {
+    initialized = false;
+    supplyCurrentAverage = 0.0;
+    outputCurrentAverage = 0.0;
+    peakOutputCurrent = 0.0;
+    ampSeconds = 0.0;
+    temperatureSlope = 0.0;
+    outputCurrentPercentile.reset();
+  }
+}
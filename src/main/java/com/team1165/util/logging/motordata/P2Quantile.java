@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.motordata;
+
+/**
+ * Streaming quantile estimator using the P² algorithm (Jain and Chlamtac, 1985).
+ *
+ * <p>Keeps five markers that are adjusted with every sample, so estimating a quantile is O(1) per
+ * sample and uses constant memory, without storing any of the samples.
+ */
+final class P2Quantile {
+  /** Heights of the markers, the middle marker being the estimate. */
+  private final double[] heights = new double[5];
+
+  /** Actual positions of the markers. */
+  private final double[] positions = new double[5];
+
+  /** Desired positions of the markers. */
+  private final double[] desired = new double[5];
+
+  /** Increment of the desired positions of the markers with every sample. */
+  private final double[] increments;
+
+  /** Scratch array used to sort the first few samples without allocating. */
+  private final double[] scratch = new double[5];
+
+  /** The quantile being estimated, from 0 to 1. */
+  private final double quantile;
+
+  /** Number of samples added so far. */
+  private long count = 0;
+
+  /**
+   * Creates a new {@link P2Quantile}.
+   *
+   * @param quantile The quantile to estimate, from 0 to 1 (for example, 0.95).
+   */
+  P2Quantile(double quantile) {
+    this.quantile = quantile;
+    increments = new double[] {0.0, quantile / 2.0, quantile, (1.0 + quantile) / 2.0, 1.0};
+  }
+
+  /**
+   * Adds a sample to the estimator.
+   *
+   * @param sample The sample to add.
+   */
+  void add(double sample) {
+    // Collect the first five samples to initialize the markers
+    if (count < 5) {
+      heights[(int) count] = sample;
+      count++;
+      if (count == 5) {
+        insertionSort(heights, 5);
+        for (int i = 0; i < 5; i++) {
+          positions[i] = i + 1;
+        }
+        desired[0] = 1.0;
+        desired[1] = 1.0 + 2.0 * quantile;
+        desired[2] = 1.0 + 4.0 * quantile;
+        desired[3] = 3.0 + 2.0 * quantile;
+        desired[4] = 5.0;
+      }
+      return;
+    }
+    count++;
+
+    // Find the cell the sample falls in, extending the extreme markers if needed
+    int cell;
+    if (sample < heights[0]) {
+      heights[0] = sample;
+      cell = 0;
+    } else if (sample >= heights[4]) {
+      heights[4] = sample;
+      cell = 3;
+    } else {
+      cell = 0;
+      while (cell < 3 && sample >= heights[cell + 1]) {
+        cell++;
+      }
+    }
+
+    // Shift the positions of the markers above the sample, and the desired positions of all
+    for (int i = cell + 1; i < 5; i++) {
+      positions[i]++;
+    }
+    for (int i = 0; i < 5; i++) {
+      desired[i] += increments[i];
+    }
+
+    // Adjust the heights of the middle markers if they are off their desired positions
+    for (int i = 1; i < 4; i++) {
+      double offset = desired[i] - positions[i];
+      if ((offset >= 1.0 && positions[i + 1] - positions[i] > 1.0)
+          || (offset <= -1.0 && positions[i - 1] - positions[i] < -1.0)) {
+        int direction = offset >= 0.0 ? 1 : -1;
+        double height = parabolic(i, direction);
+        heights[i] =
+            heights[i - 1] < height && height < heights[i + 1] ? height : linear(i, direction);
+        positions[i] += direction;
+      }
+    }
+  }
+
+  /**
+   * Returns the current estimate of the quantile, or {@link Double#NaN} if no samples have been
+   * added.
+   */
+  double get() {
+    if (count == 0) {
+      return Double.NaN;
+    } else if (count < 5) {
+      // Not enough samples for the markers yet, use the nearest rank of the samples so far
+      int size = (int) count;
+      System.arraycopy(heights, 0, scratch, 0, size);
+      insertionSort(scratch, size);
+      return scratch[(int) Math.min(size - 1, Math.round(quantile * (size - 1)))];
+    }
+    return heights[2];
+  }
+
+  /** Resets the estimator, removing all samples. */
+  void reset() {
+    count = 0;
+  }
+
+  /**
+   * Calculates the new height of a marker using piecewise-parabolic interpolation.
+   *
+   * @param i The marker to calculate the height for.
+   * @param d The direction the marker is moving in (1 or -1).
+   * @return The new height of the marker.
+   */
+  private double parabolic(int i, int d) {
+    return heights[i]
+        + d
+            / (positions[i + 1] - positions[i - 1])
+            * ((positions[i] - positions[i - 1] + d)
+                    * (heights[i + 1] - heights[i])
+                    / (positions[i + 1] - positions[i])
+                + (positions[i + 1] - positions[i] - d)
+                    * (heights[i] - heights[i - 1])
+                    / (positions[i] - positions[i - 1]));
+  }
+
+  /**
+   * Calculates the new height of a marker using linear interpolation, used when the parabolic
+   * prediction would move the marker out of order.
+   *
+   * @param i The marker to calculate the height for.
+   * @param d The direction the marker is moving in (1 or -1).
+   * @return The new height of the marker.
+   */
+  private double linear(int i, int d) {
+    return heights[i] + d * (heights[i + d] - heights[i]) / (positions[i + d] - positions[i]);
+  }
+
+  /**
+   * Sorts the first values of an array in place, using insertion sort since there are at most five.
+   *
+   * @param values The array to sort.
+   * @param size The number of values to sort.
+   */
+  private static void insertionSort(double[] values, int size) {
+    for (int i = 1; i < size; i++) {
+      double value = values[i];
+      int j = i - 1;
+      while (j >= 0 && values[j] > value) {
+        values[j + 1] = values[j];
+        j--;
+      }
+      values[j + 1] = value;
+    }
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.motordata;
+
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.simulation.DCMotorSim;
+import edu.wpi.first.wpilibj.simulation.FlywheelSim;
+import java.util.Arrays;
+
+/**
+ * {@link MotorData} class that uses a physics model of the mechanism to generate data in
+ * simulation.
+ *
+ * <p>Each instance owns either a {@link DCMotorSim} or a {@link FlywheelSim}. Every registered
+ * simulation is stepped in a single batched pass by {@link #stepAll(double)}, once per robot loop
+ * by default, and the resulting position, velocity, voltage, and current are logged with the rest
+ * of the {@link MotorDataBank}. Position and velocity are in
+ * rotations and rotations per second, matching {@link TalonMotorData}.
+ */
+public class SimMotorData extends MotorData {
+  /** All created {@link SimMotorData} instances, stepped together by {@link #stepAll(double)}. */
+  private static SimMotorData[] sims = new SimMotorData[0];
+
+  /** Number of sub-steps each simulation is split into every robot loop. */
+  private static int subSteps = 1;
+
+  // Physics model of the mechanism, only one is non-null
+  private final DCMotorSim dcMotorSim;
+  private final FlywheelSim flywheelSim;
+
+  /** Voltage requested by the robot code, before being limited to the battery voltage. */
+  private double requestedVolts = 0.0;
+
+  /** Voltage applied to the model during the last step. */
+  private double appliedVolts = 0.0;
+
+  /** Position of a flywheel, integrated from its velocity, in rotations. */
+  private double flywheelPosition = 0.0;
+
+  /** Supply current averaged over the sub-steps of the last loop. */
+  private double supplyCurrentAmps = 0.0;
+
+  /**
+   * Creates a {@link SimMotorData} backed by a {@link DCMotorSim}, for mechanisms like arms,
+   * elevators, and drive motors where position matters.
+   *
+   * @param name The name of the motor in logs.
+   * @param sim The {@link DCMotorSim} modeling the mechanism.
+   */
+  public SimMotorData(String name, DCMotorSim sim) {
+    this(name, sim, null);
+  }
+
+  /**
+   * Creates a {@link SimMotorData} backed by a {@link FlywheelSim}, for mechanisms like shooters
+   * and rollers where only velocity matters. The position is integrated from the velocity.
+   *
+   * @param name The name of the motor in logs.
+   * @param sim The {@link FlywheelSim} modeling the mechanism.
+   */
+  public SimMotorData(String name, FlywheelSim sim) {
+    this(name, null, sim);
+  }
+
+  /**
+   * Creates a {@link SimMotorData} backed by one of the provided physics models.
+   *
+   * @param name The name of the motor in logs.
+   * @param dcMotorSim The {@link DCMotorSim} modeling the mechanism, or null.
+   * @param flywheelSim The {@link FlywheelSim} modeling the mechanism, or null.
+   */
+  private SimMotorData(String name, DCMotorSim dcMotorSim, FlywheelSim flywheelSim) {
+    super(name, MotorFaults.generic);
+    this.dcMotorSim = dcMotorSim;
+    this.flywheelSim = flywheelSim;
+
+    sims = Arrays.copyOf(sims, sims.length + 1);
+    sims[sims.length - 1] = this;
+  }
+
+  /**
+   * Sets the number of sub-steps each simulation is split into every robot loop. Both models are
+   * linear and discretized exactly, so with the voltage held for the whole loop, sub-steps give the
+   * same state as a single step at a multiple of the cost. Only raise this when something nonlinear
+   * is evaluated between sub-steps, or to average the supply current over the loop.
+   *
+   * @param steps The number of sub-steps per robot loop, at least 1.
+   */
+  public static void setSubSteps(int steps) {
+    subSteps = Math.max(steps, 1);
+  }
+
+  /**
+   * Steps every registered simulation forward by one robot loop in a single pass. Should be called
+   * once per loop from {@code simulationPeriodic()}.
+   *
+   * @param loopPeriodSeconds The period of the main robot loop, in seconds, normally {@code
+   *     getPeriod()} of the robot.
+   */
+  public static void stepAll(double loopPeriodSeconds) {
+    double batteryVolts = RobotController.getBatteryVoltage();
+    int steps = subSteps;
+    double dt = loopPeriodSeconds / steps;
+    for (SimMotorData sim : sims) {
+      sim.step(batteryVolts, steps, dt);
+    }
+  }
+
+  /**
+   * Sets the voltage applied to the motor, limited to the battery voltage on the next step.
+   *
+   * @param volts The voltage to apply to the motor.
+   */
+  public void setInputVoltage(double volts) {
+    requestedVolts = volts;
+  }
+
+  /**
+   * Steps the simulation forward by one robot loop.
+   *
+   * @param batteryVolts The voltage of the battery.
+   * @param steps The number of sub-steps to split the loop into.
+   * @param dt The length of each sub-step, in seconds.
+   */
+  private void step(double batteryVolts, int steps, double dt) {
+    appliedVolts = MathUtil.clamp(requestedVolts, -batteryVolts, batteryVolts);
+    double dutyCycle = batteryVolts > 0.0 ? Math.abs(appliedVolts / batteryVolts) : 0.0;
+
+    double supplyCurrentSum = 0.0;
+    for (int i = 0; i < steps; i++) {
+      if (dcMotorSim != null) {
+        dcMotorSim.setInputVoltage(appliedVolts);
+        dcMotorSim.update(dt);
+        supplyCurrentSum += Math.abs(dcMotorSim.getCurrentDrawAmps()) * dutyCycle;
+      } else {
+        // Integrate the position with the average of the start and end velocity of the step, so it
+        // stays accurate with a single step per loop
+        double startVelocity = flywheelSim.getAngularVelocityRPM() / 60.0;
+        flywheelSim.setInputVoltage(appliedVolts);
+        flywheelSim.update(dt);
+        flywheelPosition += (startVelocity + flywheelSim.getAngularVelocityRPM() / 60.0) / 2.0 * dt;
+        supplyCurrentSum += Math.abs(flywheelSim.getCurrentDrawAmps()) * dutyCycle;
+      }
+    }
+    supplyCurrentAmps = supplyCurrentSum / steps;
+  }
+
+  /**
+   * Updates the motor data with the latest state of the simulation. Called once per loop by {@link
+   * MotorDataBank#periodic()}.
+   */
+  @Override
+  public void update() {
+    double position;
+    double velocity;
+    double outputCurrent;
+    if (dcMotorSim != null) {
+      position = dcMotorSim.getAngularPositionRotations();
+      velocity = dcMotorSim.getAngularVelocityRPM() / 60.0;
+      outputCurrent = dcMotorSim.getCurrentDrawAmps();
+    } else {
+      position = flywheelPosition;
+      velocity = flywheelSim.getAngularVelocityRPM() / 60.0;
+      outputCurrent = flywheelSim.getCurrentDrawAmps();
+    }
+
+    setAppliedVolts(appliedVolts);
+    setConnected(true);
+    setFaultActive(false);
+    setFaults(0);
+    setMotorTemperatureCelsius(0.0);
+    setOutputCurrentAmps(outputCurrent);
+    setPosition(position);
+    setProcessorTemperatureCelsius(0.0);
+    setSupplyCurrentAmps(supplyCurrentAmps);
+    setVelocity(velocity);
+    setTimestamp(RobotController.getFPGATime() / 1e6);
+    setLatencySeconds(0.0);
+    setCompensatedPosition(position);
+    setCompensatedVelocity(velocity);
+  }
+}
@@ -7,45 +7,38 @@
 
 package com.team1165.util.logging.motordata;
 
-import com.revrobotics.REVLibError;
-import com.revrobotics.RelativeEncoder;
 import com.revrobotics.spark.SparkBase;
-import com.revrobotics.spark.SparkBase.Faults;
-import com.revrobotics.spark.SparkBase.PersistMode;
-import com.revrobotics.spark.SparkBase.ResetMode;
-import com.revrobotics.spark.config.SignalsConfig;
-import com.revrobotics.spark.config.SparkFlexConfig;
-import com.revrobotics.spark.config.SparkMaxConfig;
 import com.team1165.util.constants.AlertConstants;
 import com.team1165.util.constants.CANConstants;
 import com.team1165.util.constants.CANFrequency;
 import com.team1165.util.vendor.rev.SparkConfig;
-import com.team1165.util.vendor.rev.SparkModel;
-import com.team1165.util.vendor.rev.SparkUtils;
+import com.team1165.util.vendor.rev.SparkPoller;
+import com.team1165.util.vendor.rev.SparkSignalFrequencies;
+import com.team1165.util.vendor.rev.SparkSnapshot;
 import edu.wpi.first.math.filter.Debouncer;
 import edu.wpi.first.math.filter.Debouncer.DebounceType;
 import edu.wpi.first.wpilibj.Alert;
 import edu.wpi.first.wpilibj.Alert.AlertType;
+import edu.wpi.first.wpilibj.RobotController;
 
 /**
  * {@link MotorData} class that uses a REV SPARK (MAX/FLEX) motor controller with a relative encoder
  * to log data.
+ *
+ * <p>The SPARK is read on a background thread by the {@link SparkPoller}, so {@link #update()} only
+ * picks up the latest published {@link SparkSnapshot}.
  */
 public class SparkMotorData extends MotorData {
-  // SPARK and encoder to grab data from
-  private final SparkBase spark;
-  private final RelativeEncoder encoder;
+  /** Device registered with the {@link SparkPoller} that snapshots are taken from. */
+  private final SparkPoller.Device device;
+
+  /** Frequencies of the SPARK's signals, applied when updating frequency. */
+  private final SparkSignalFrequencies signalFrequencies;
 
   // Alerts to send if any issues arise with the SPARK or motor
   private final Alert connectedAlert;
   private final Alert faultAlert;
 
-  /** Model to use for configuration if updating frequency */
-  private final SparkModel model;
-
-  /** The applied output of the motor, used to calculate other motor fields. */
-  private double appliedOutput = 0.0;
-
   /** Debouncer to avoid false disconnection alerts. */
   private final Debouncer connectedDebouncer = new Debouncer(0.2, DebounceType.kFalling);
 
@@ -56,12 +49,13 @@ public class SparkMotorData extends MotorData {
    * @param config The {@link SparkConfig} for this SPARK. Used for the name, model, and CAN ID.
    */
   public SparkMotorData(SparkBase spark, SparkConfig config) {
-    // Get the SPARK and encoder to log data from
-    this.spark = spark;
-    this.encoder = spark.getEncoder();
+    super(config.name(), MotorFaults.spark);
 
-    // Save SPARK model for updating frequency
-    model = config.model();
+    // Start polling the SPARK in the background
+    device = SparkPoller.register(spark, 1.0 / CANFrequency.MEDIUM.getFrequency(CANConstants.rio));
+
+    // Track the frequencies of the SPARK's signals for updating frequency
+    signalFrequencies = new SparkSignalFrequencies(spark, config.model(), device);
 
     // Create alerts with the name and CAN ID of the SPARK
     connectedAlert =
@@ -78,71 +72,59 @@ public class SparkMotorData extends MotorData {
 
   /**
    * Update the motor data using the values from the REV SPARK (MAX/FLEX) motor controller linked
-   * with this instance.
+   * with this instance. Called once per loop by {@link MotorDataBank#periodic()}.
    */
+  @Override
   public void update() {
+    // Get the latest values read by the poller
+    SparkSnapshot snapshot = device.latest();
+
     // Check if there are any active faults, if there are, activate an alert and save the faults
-    faultActive = SparkUtils.ifOkOrDefault(spark, spark::hasActiveFault, faultActive);
-    faultAlert.set(faultActive);
-    if (faultActive) {
-      Faults sparkFaults = spark.getFaults();
-      faults =
-          (sparkFaults.other ? "other " : "")
-              + (sparkFaults.motorType ? "motorType " : "")
-              + (sparkFaults.sensor ? "sensor " : "")
-              + (sparkFaults.can ? "can " : "")
-              + (sparkFaults.temperature ? "temperature " : "")
-              + (sparkFaults.gateDriver ? "gateDriver " : "")
-              + (sparkFaults.escEeprom ? "escEeprom " : "")
-              + (sparkFaults.firmware ? "firmware " : "");
-    } else {
-      faults = "";
-    }
-
-    // Get applied output since it's used later on
-    appliedOutput = SparkUtils.ifOkOrDefault(spark, spark::getAppliedOutput, appliedOutput);
-
-    // Get values from the SPARK and save them
-    appliedVolts =
-        SparkUtils.ifOkOrDefault(spark, () -> spark.getBusVoltage() * appliedOutput, appliedVolts);
-    motorTemperatureCelsius =
-        SparkUtils.ifOkOrDefault(spark, spark::getMotorTemperature, motorTemperatureCelsius);
-    outputCurrentAmps = SparkUtils.ifOkOrDefault(spark, spark::getOutputCurrent, outputCurrentAmps);
-    position = SparkUtils.ifOkOrDefault(spark, encoder::getPosition, position);
-    processorTemperatureCelsius = 0.0; // Not compatible with SPARKs
-    supplyCurrentAmps = outputCurrentAmps * appliedOutput; // Approximate, not exact
-    velocity = SparkUtils.ifOkOrDefault(spark, encoder::getVelocity, velocity);
-
-    // Update connected debouncer if there is a sticky error from previous call to the SPARK
-    connected = connectedDebouncer.calculate(spark.getLastError() == REVLibError.kOk);
+    setFaultActive(snapshot.getFaultActive());
+    setFaults(snapshot.getFaults()); // Bits match the order of the names in MotorFaults.spark
+    faultAlert.set(snapshot.getFaultActive());
+
+    // Save values from the snapshot
+    double appliedOutput = snapshot.getAppliedOutput();
+    setAppliedVolts(snapshot.getBusVoltage() * appliedOutput);
+    setMotorTemperatureCelsius(snapshot.getMotorTemperatureCelsius());
+    setOutputCurrentAmps(snapshot.getOutputCurrentAmps());
+    setPosition(snapshot.getPosition());
+    setProcessorTemperatureCelsius(0.0); // Not compatible with SPARKs
+    setSupplyCurrentAmps(snapshot.getOutputCurrentAmps() * appliedOutput); // Approximate
+    setVelocity(snapshot.getVelocity());
+
+    // Save when the SPARK was read, the position and velocity are not compensated for latency since
+    // their units depend on the conversion factors configured on the SPARK
+    setTimestamp(snapshot.getTimestamp());
+    setLatencySeconds(RobotController.getFPGATime() / 1e6 - snapshot.getTimestamp());
+    setCompensatedPosition(snapshot.getPosition());
+    setCompensatedVelocity(snapshot.getVelocity());
+
+    // Update connected debouncer if there was a sticky error from the last read of the SPARK
+    boolean connected = connectedDebouncer.calculate(snapshot.isOk());
+    setConnected(connected);
     connectedAlert.set(!connected);
   }
 
   @Override
-  void setFrequency(MotorField field) {
-    // Get period to set from the CAN frequency
-    int period = (int) (1000 / CANFrequency.FAST.getFrequency(CANConstants.rio));
-
-    // Create SignalsConfig to be used
-    SignalsConfig signalsConfig =
-        switch (field) {
-          case APPLIED_VOLTS ->
-              new SignalsConfig().appliedOutputPeriodMs(period).busVoltagePeriodMs(period);
-          case FAULT_ACTIVE, FAULTS -> new SignalsConfig().faultsPeriodMs(period);
-          case MOTOR_TEMP -> new SignalsConfig().motorTemperaturePeriodMs(period);
-          case OUTPUT_CURRENT -> new SignalsConfig().outputCurrentPeriodMs(period);
-          case POSITION -> new SignalsConfig().primaryEncoderPositionPeriodMs(period);
-          case SUPPLY_CURRENT ->
-              new SignalsConfig().outputCurrentPeriodMs(period).appliedOutputPeriodMs(period);
-          case VELOCITY -> new SignalsConfig().primaryEncoderVelocityPeriodMs(period);
-          default -> new SignalsConfig();
-        };
-
-    // Configure the SPARK async to prevent blocking robot code
-    spark.configureAsync(
-        (model == SparkModel.SparkMax ? new SparkMaxConfig() : new SparkFlexConfig())
-            .apply(signalsConfig),
-        ResetMode.kNoResetSafeParameters,
-        PersistMode.kNoPersistParameters);
+  @SuppressWarnings("EnumOrdinal")
+  void applyFrequencies(CANFrequency[] frequencies, int changedFields) {
+    // Signals shared by multiple fields use the fastest frequency of those fields
+    CANFrequency appliedVolts = frequencies[MotorField.APPLIED_VOLTS.ordinal()];
+    CANFrequency supplyCurrent = frequencies[MotorField.SUPPLY_CURRENT.ordinal()];
+    signalFrequencies
+        .appliedOutput(CANFrequency.max(appliedVolts, supplyCurrent))
+        .busVoltage(appliedVolts)
+        .faults(
+            CANFrequency.max(
+                frequencies[MotorField.FAULT_ACTIVE.ordinal()],
+                frequencies[MotorField.FAULTS.ordinal()]))
+        .motorTemperature(frequencies[MotorField.MOTOR_TEMP.ordinal()])
+        .outputCurrent(
+            CANFrequency.max(frequencies[MotorField.OUTPUT_CURRENT.ordinal()], supplyCurrent))
+        .primaryEncoderPosition(frequencies[MotorField.POSITION.ordinal()])
+        .primaryEncoderVelocity(frequencies[MotorField.VELOCITY.ordinal()])
+        .apply();
   }
 }
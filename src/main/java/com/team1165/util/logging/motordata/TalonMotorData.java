@@ -9,39 +9,38 @@ package com.team1165.util.logging.motordata;
 
 import com.ctre.phoenix6.BaseStatusSignal;
 import com.ctre.phoenix6.CANBus;
-import com.ctre.phoenix6.StatusSignal;
 import com.ctre.phoenix6.hardware.TalonFX;
 import com.team1165.util.constants.AlertConstants;
 import com.team1165.util.constants.CANFrequency;
 import com.team1165.util.vendor.ctre.PhoenixDeviceConfigs.TalonFXConfig;
 import com.team1165.util.vendor.ctre.PhoenixSignalUtils;
+import com.team1165.util.vendor.ctre.PrimitiveSignal;
 import edu.wpi.first.math.filter.Debouncer;
 import edu.wpi.first.math.filter.Debouncer.DebounceType;
-import edu.wpi.first.units.measure.Angle;
-import edu.wpi.first.units.measure.AngularVelocity;
-import edu.wpi.first.units.measure.Current;
-import edu.wpi.first.units.measure.Temperature;
-import edu.wpi.first.units.measure.Voltage;
 import edu.wpi.first.wpilibj.Alert;
 import edu.wpi.first.wpilibj.Alert.AlertType;
+import edu.wpi.first.wpilibj.RobotController;
+import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * {@link MotorData} class that uses status signals from a Talon FX motor controller to log data.
  */
 public class TalonMotorData extends MotorData {
-  // Status signals providing the data to log
-  private final StatusSignal<Voltage> appliedVoltsSignal;
-  private final StatusSignal<Integer> faultFieldSignal;
-  private final StatusSignal<Boolean> bootDuringEnableFaultSignal;
-  private final StatusSignal<Boolean> deviceTempFaultSignal;
-  private final StatusSignal<Boolean> hardwareFaultSignal;
-  private final StatusSignal<Boolean> procTempFaultSignal;
-  private final StatusSignal<Temperature> motorTemperatureSignal;
-  private final StatusSignal<Current> outputCurrentSignal;
-  private final StatusSignal<Angle> positionSignal;
-  private final StatusSignal<Temperature> processorTemperatureSignal;
-  private final StatusSignal<Current> supplyCurrentSignal;
-  private final StatusSignal<AngularVelocity> velocitySignal;
+  // Primitive views over the status signals providing the data to log
+  private final PrimitiveSignal appliedVoltsSignal;
+  private final PrimitiveSignal faultFieldSignal;
+  private final PrimitiveSignal bootDuringEnableFaultSignal;
+  private final PrimitiveSignal deviceTempFaultSignal;
+  private final PrimitiveSignal hardwareFaultSignal;
+  private final PrimitiveSignal procTempFaultSignal;
+  private final PrimitiveSignal motorTemperatureSignal;
+  private final PrimitiveSignal outputCurrentSignal;
+  private final PrimitiveSignal positionSignal;
+  private final PrimitiveSignal processorTemperatureSignal;
+  private final PrimitiveSignal supplyCurrentSignal;
+  private final PrimitiveSignal velocitySignal;
+  private final PrimitiveSignal accelerationSignal;
 
   // Alerts to send if any issues arise with the Talon FX or motor
   private final Alert connectedAlert;
@@ -50,6 +49,9 @@ public class TalonMotorData extends MotorData {
   /** CAN bus to use for frequency configuration. */
   private final CANBus canBus;
 
+  /** Signals providing each field, indexed by {@link MotorField} ordinal. */
+  private final BaseStatusSignal[][] fieldSignals;
+
   /** Debouncer to avoid false disconnection alerts. */
   private final Debouncer connectedDebouncer = new Debouncer(0.2, DebounceType.kFalling);
 
@@ -59,43 +61,88 @@ public class TalonMotorData extends MotorData {
    * @param talon The {@link TalonFX} to log data from.
    * @param config The {@link TalonFXConfig} for this Talon FX. Used for name, CAN ID, and CAN bus.
    */
+  @SuppressWarnings("EnumOrdinal")
   public TalonMotorData(TalonFX talon, TalonFXConfig config) {
+    super(config.name(), MotorFaults.talon);
+
     // Get status signals from the Talon
-    appliedVoltsSignal = talon.getMotorVoltage();
-    faultFieldSignal = talon.getFaultField();
-    bootDuringEnableFaultSignal = talon.getFault_BootDuringEnable();
-    deviceTempFaultSignal = talon.getFault_DeviceTemp();
-    hardwareFaultSignal = talon.getFault_Hardware();
-    procTempFaultSignal = talon.getFault_ProcTemp();
-    motorTemperatureSignal = talon.getDeviceTemp();
-    outputCurrentSignal = talon.getTorqueCurrent();
-    positionSignal = talon.getPosition();
-    processorTemperatureSignal = talon.getProcessorTemp();
-    supplyCurrentSignal = talon.getSupplyCurrent();
-    velocitySignal = talon.getVelocity();
-
-    // Set the default update frequency and register signals
+    final var appliedVolts = talon.getMotorVoltage();
+    final var faultField = talon.getFaultField();
+    final var bootDuringEnableFault = talon.getFault_BootDuringEnable();
+    final var deviceTempFault = talon.getFault_DeviceTemp();
+    final var hardwareFault = talon.getFault_Hardware();
+    final var procTempFault = talon.getFault_ProcTemp();
+    final var motorTemperature = talon.getDeviceTemp();
+    final var outputCurrent = talon.getTorqueCurrent();
+    final var position = talon.getPosition();
+    final var processorTemperature = talon.getProcessorTemp();
+    final var supplyCurrent = talon.getSupplyCurrent();
+    final var velocity = talon.getVelocity();
+    final var acceleration = talon.getAcceleration();
+
+    // Set the default update frequency and register signals, owned by the Talon
     PhoenixSignalUtils.setFrequencyAndRegister(
         config.canBus(),
+        talon,
         CANFrequency.MEDIUM,
-        appliedVoltsSignal,
-        motorTemperatureSignal,
-        outputCurrentSignal,
-        positionSignal,
-        processorTemperatureSignal,
-        supplyCurrentSignal,
-        velocitySignal);
+        appliedVolts,
+        motorTemperature,
+        outputCurrent,
+        position,
+        processorTemperature,
+        supplyCurrent,
+        velocity,
+        acceleration);
     PhoenixSignalUtils.setFrequencyAndRegister(
         config.canBus(),
+        talon,
         CANFrequency.SLOW,
-        faultFieldSignal,
-        bootDuringEnableFaultSignal,
-        deviceTempFaultSignal,
-        hardwareFaultSignal,
-        procTempFaultSignal);
+        faultField,
+        bootDuringEnableFault,
+        deviceTempFault,
+        hardwareFault,
+        procTempFault);
+
+    // Read every signal through a primitive view, to avoid allocating while updating
+    appliedVoltsSignal = new PrimitiveSignal(appliedVolts);
+    faultFieldSignal = new PrimitiveSignal(faultField);
+    bootDuringEnableFaultSignal = new PrimitiveSignal(bootDuringEnableFault);
+    deviceTempFaultSignal = new PrimitiveSignal(deviceTempFault);
+    hardwareFaultSignal = new PrimitiveSignal(hardwareFault);
+    procTempFaultSignal = new PrimitiveSignal(procTempFault);
+    motorTemperatureSignal = new PrimitiveSignal(motorTemperature);
+    outputCurrentSignal = new PrimitiveSignal(outputCurrent);
+    positionSignal = new PrimitiveSignal(position);
+    processorTemperatureSignal = new PrimitiveSignal(processorTemperature);
+    supplyCurrentSignal = new PrimitiveSignal(supplyCurrent);
+    velocitySignal = new PrimitiveSignal(velocity);
+    accelerationSignal = new PrimitiveSignal(acceleration);
 
-    // Save CAN bus for updating the frequency if needed
+    // Save CAN bus and signals of each field for updating the frequency if needed
     canBus = config.canBus();
+    BaseStatusSignal[] faultSignals = {
+      faultField, bootDuringEnableFault, deviceTempFault, hardwareFault, procTempFault
+    };
+    fieldSignals = new BaseStatusSignal[MotorField.values().length][];
+    for (MotorField field : MotorField.values()) {
+      fieldSignals[field.ordinal()] =
+          switch (field) {
+            case APPLIED_VOLTS -> new BaseStatusSignal[] {appliedVolts};
+            case FAULT_ACTIVE, FAULTS -> faultSignals;
+            case MOTOR_TEMP -> new BaseStatusSignal[] {motorTemperature};
+            case OUTPUT_CURRENT -> new BaseStatusSignal[] {outputCurrent};
+            case POSITION -> new BaseStatusSignal[] {position};
+            case PROCESSOR_TEMP -> new BaseStatusSignal[] {processorTemperature};
+            case SUPPLY_CURRENT -> new BaseStatusSignal[] {supplyCurrent};
+            case VELOCITY -> new BaseStatusSignal[] {velocity, acceleration};
+          };
+    }
+
+    // Signals required for following and control are kept fast by PhoenixDeviceUtils
+    setBaselineFrequency(MotorField.APPLIED_VOLTS, CANFrequency.FAST);
+    setBaselineFrequency(MotorField.OUTPUT_CURRENT, CANFrequency.FAST);
+    setBaselineFrequency(MotorField.POSITION, CANFrequency.FAST);
+    setBaselineFrequency(MotorField.VELOCITY, CANFrequency.FAST);
 
     // Create alerts with the name and ID of the Talon FX
     connectedAlert =
@@ -112,58 +159,98 @@ public class TalonMotorData extends MotorData {
 
   /**
    * Updates the motor data using the status signals from the Talon FX motor controller linked with
-   * this instance.
+   * this instance. Called once per loop by {@link MotorDataBank#periodic()}.
    */
+  @Override
   public void update() {
     // Check if there are any active faults, if there are, activate an alert and save the faults
-    faultActive = faultFieldSignal.getValue() != 0;
+    boolean faultActive = faultFieldSignal.getLong() != 0;
+    setFaultActive(faultActive);
     faultAlert.set(faultActive);
     if (faultActive) {
-      faults =
-          (bootDuringEnableFaultSignal.getValue() ? "BootDuringEnable " : "")
-              + (deviceTempFaultSignal.getValue() ? "DeviceTemp " : "")
-              + (hardwareFaultSignal.getValue() ? "Hardware " : "")
-              + (procTempFaultSignal.getValue() ? "ProcTemp " : "");
+      // Bits must match the order of the names in MotorFaults.talon
+      setFaults(
+          (bootDuringEnableFaultSignal.getBoolean() ? 1 : 0)
+              | (deviceTempFaultSignal.getBoolean() ? 1 << 1 : 0)
+              | (hardwareFaultSignal.getBoolean() ? 1 << 2 : 0)
+              | (procTempFaultSignal.getBoolean() ? 1 << 3 : 0));
     } else {
-      faults = "";
+      setFaults(0);
     }
 
     // Get values from the status signals and save them
-    appliedVolts = appliedVoltsSignal.getValueAsDouble();
-    motorTemperatureCelsius = motorTemperatureSignal.getValueAsDouble();
-    outputCurrentAmps = outputCurrentSignal.getValueAsDouble();
-    position = positionSignal.getValueAsDouble();
-    processorTemperatureCelsius = processorTemperatureSignal.getValueAsDouble();
-    supplyCurrentAmps = supplyCurrentSignal.getValueAsDouble();
-    velocity = velocitySignal.getValueAsDouble();
+    setAppliedVolts(appliedVoltsSignal.getDouble());
+    setMotorTemperatureCelsius(motorTemperatureSignal.getDouble());
+    setOutputCurrentAmps(outputCurrentSignal.getDouble());
+    setPosition(positionSignal.getDouble());
+    setProcessorTemperatureCelsius(processorTemperatureSignal.getDouble());
+    setSupplyCurrentAmps(supplyCurrentSignal.getDouble());
+    setVelocity(velocitySignal.getDouble());
+
+    // Save when the position was measured, and compensate the position and velocity for latency
+    double latencySeconds = positionSignal.getLatencySeconds();
+    setTimestamp(RobotController.getFPGATime() / 1e6 - latencySeconds);
+    setLatencySeconds(latencySeconds);
+    setCompensatedPosition(positionSignal.getLatencyCompensated(velocitySignal));
+    setCompensatedVelocity(velocitySignal.getLatencyCompensated(accelerationSignal));
 
     // After updating everything, check if there are any reported connection issues
-    connected = connectedDebouncer.calculate(BaseStatusSignal.isAllGood(appliedVoltsSignal));
+    boolean connected = connectedDebouncer.calculate(appliedVoltsSignal.isOk());
+    setConnected(connected);
     connectedAlert.set(!connected);
   }
 
+  /**
+   * Enables high-rate sampling of the position and velocity of the Talon FX through a background
+   * thread (see {@link PhoenixSignalUtils#registerSampledSignals}). Samples are drained each loop
+   * and are available through {@link #getSamplePositions()} and {@link #getSampleVelocities()}.
+   * Samples are not logged, so they are not available during replay.
+   *
+   * @param capacity The minimum number of samples to buffer between loops.
+   */
+  public void enableSampling(int capacity) {
+    setSampleBuffer(
+        PhoenixSignalUtils.registerSampledSignals(
+            canBus,
+            capacity,
+            positionSignal.getSignal().clone(),
+            velocitySignal.getSignal().clone()));
+  }
+
   @Override
-  void setFrequency(MotorField field) {
-    PhoenixSignalUtils.setUpdateFrequency(
-        canBus,
-        CANFrequency.FAST,
-        true,
-        switch (field) {
-          case APPLIED_VOLTS -> new BaseStatusSignal[] {appliedVoltsSignal};
-          case FAULT_ACTIVE, FAULTS ->
-              new BaseStatusSignal[] {
-                faultFieldSignal,
-                bootDuringEnableFaultSignal,
-                deviceTempFaultSignal,
-                hardwareFaultSignal,
-                procTempFaultSignal
-              };
-          case MOTOR_TEMP -> new BaseStatusSignal[] {motorTemperatureSignal};
-          case OUTPUT_CURRENT -> new BaseStatusSignal[] {outputCurrentSignal};
-          case POSITION -> new BaseStatusSignal[] {positionSignal};
-          case PROCESSOR_TEMP -> new BaseStatusSignal[] {processorTemperatureSignal};
-          case SUPPLY_CURRENT -> new BaseStatusSignal[] {supplyCurrentSignal};
-          case VELOCITY -> new BaseStatusSignal[] {velocitySignal};
-        });
+  @SuppressWarnings("EnumOrdinal")
+  void applyFrequencies(CANFrequency[] frequencies, int changedFields) {
+    // Find the frequency of every signal group with a changed field, skipping groups already seen
+    CANFrequency[] groupFrequencies = new CANFrequency[fieldSignals.length];
+    for (int i = 0; i < fieldSignals.length; i++) {
+      if ((changedFields & (1 << i)) == 0) {
+        continue;
+      }
+      CANFrequency frequency = frequencies[i];
+      boolean seen = false;
+      for (int j = 0; j < fieldSignals.length; j++) {
+        if (fieldSignals[j] == fieldSignals[i]) {
+          frequency = CANFrequency.max(frequency, frequencies[j]);
+          seen |= j < i && (changedFields & (1 << j)) != 0;
+        }
+      }
+      if (!seen) {
+        groupFrequencies[i] = frequency;
+      }
+    }
+
+    // Apply each frequency to all of its signals at once
+    for (CANFrequency frequency : CANFrequency.values()) {
+      ArrayList<BaseStatusSignal> signals = new ArrayList<>();
+      for (int i = 0; i < fieldSignals.length; i++) {
+        if (groupFrequencies[i] == frequency) {
+          signals.addAll(Arrays.asList(fieldSignals[i]));
+        }
+      }
+      if (!signals.isEmpty()) {
+        PhoenixSignalUtils.setUpdateFrequency(
+            canBus, frequency, false, signals.toArray(new BaseStatusSignal[0]));
+      }
+    }
   }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.sensordata;
+
+import com.ctre.phoenix6.BaseStatusSignal;
+import com.ctre.phoenix6.hardware.CANcoder;
+import com.ctre.phoenix6.signals.MagnetHealthValue;
+import com.team1165.util.constants.AlertConstants;
+import com.team1165.util.constants.CANFrequency;
+import com.team1165.util.vendor.ctre.PhoenixDeviceConfigs.CANcoderConfig;
+import com.team1165.util.vendor.ctre.PrimitiveSignal;
+import edu.wpi.first.wpilibj.Alert;
+import edu.wpi.first.wpilibj.Alert.AlertType;
+import org.littletonrobotics.junction.LogTable;
+
+/**
+ * {@link SensorData} class that uses status signals from a CANcoder to log data.
+ *
+ * <p>If the CANcoder is used as a remote sensor or remote limit switch by a Talon FX, {@link
+ * com.team1165.util.vendor.ctre.PhoenixDeviceUtils} pins the signals the Talon FX uses to {@link
+ * CANFrequency#FAST}, and those fields never drop below it.
+ */
+public class EncoderData extends SensorData<EncoderData.Field> {
+  /** Enum representing the fields collected by {@link EncoderData}. */
+  public enum Field {
+    ABSOLUTE_POSITION,
+    POSITION,
+    VELOCITY,
+    MAGNET_HEALTH
+  }
+
+  // Primitive views over the status signals providing the data to log
+  private final PrimitiveSignal absolutePositionSignal;
+  private final PrimitiveSignal positionSignal;
+  private final PrimitiveSignal velocitySignal;
+  private final PrimitiveSignal magnetHealthSignal;
+
+  /** Alert to send if the magnet of the CANcoder is not in range. */
+  private final Alert magnetAlert;
+
+  // Latest values of each field
+  private double absolutePositionRotations = 0.0;
+  private double positionRotations = 0.0;
+  private double velocityRotationsPerSec = 0.0;
+  private int magnetHealth = 0;
+
+  /**
+   * Creates an {@link EncoderData} using the specified constants.
+   *
+   * @param cancoder The {@link CANcoder} to log data from.
+   * @param config The {@link CANcoderConfig} for this CANcoder. Used for name, CAN ID, and CAN bus.
+   */
+  public EncoderData(CANcoder cancoder, CANcoderConfig config) {
+    super(
+        "CANcoder",
+        config.name(),
+        config.canId(),
+        config.canBus(),
+        cancoder,
+        new BaseStatusSignal[][] {
+          {cancoder.getAbsolutePosition()},
+          {cancoder.getPosition()},
+          {cancoder.getVelocity()},
+          {cancoder.getMagnetHealth()}
+        },
+        new CANFrequency[] {
+          CANFrequency.MEDIUM, CANFrequency.MEDIUM, CANFrequency.MEDIUM, CANFrequency.SLOW
+        });
+
+    // Phoenix returns the same status signal objects every time they are retrieved, and they are
+    // read through primitive views to avoid allocating while updating
+    absolutePositionSignal = new PrimitiveSignal(cancoder.getAbsolutePosition());
+    positionSignal = new PrimitiveSignal(cancoder.getPosition());
+    velocitySignal = new PrimitiveSignal(cancoder.getVelocity());
+    magnetHealthSignal = new PrimitiveSignal(cancoder.getMagnetHealth());
+
+    magnetAlert =
+        new Alert(
+            AlertConstants.general,
+            "CANcoder \""
+                + config.name()
+                + "\" (ID: "
+                + config.canId()
+                + ") magnet is out of range!",
+            AlertType.kWarning);
+  }
+
+  @Override
+  void update() {
+    absolutePositionRotations = absolutePositionSignal.getDouble();
+    positionRotations = positionSignal.getDouble();
+    velocityRotationsPerSec = velocitySignal.getDouble();
+    magnetHealth = (int) magnetHealthSignal.getLong();
+    magnetAlert.set(getConnected() && magnetHealth == MagnetHealthValue.Magnet_Red.value);
+  }
+
+  @Override
+  public void toLog(LogTable table) {
+    super.toLog(table);
+    table.put("AbsolutePositionRotations", absolutePositionRotations);
+    table.put("PositionRotations", positionRotations);
+    table.put("VelocityRotationsPerSec", velocityRotationsPerSec);
+    table.put("MagnetHealth", magnetHealth);
+  }
+
+  @Override
+  public void fromLog(LogTable table) {
+    super.fromLog(table);
+    absolutePositionRotations = table.get("AbsolutePositionRotations", absolutePositionRotations);
+    positionRotations = table.get("PositionRotations", positionRotations);
+    velocityRotationsPerSec = table.get("VelocityRotationsPerSec", velocityRotationsPerSec);
+    magnetHealth = table.get("MagnetHealth", magnetHealth);
+  }
+
+  /** Get the absolute position of the CANcoder, in rotations. */
+  public double getAbsolutePositionRotations() {
+    markAccessed(Field.ABSOLUTE_POSITION);
+    return absolutePositionRotations;
+  }
+
+  /** Get the position of the CANcoder, in rotations. */
+  public double getPositionRotations() {
+    markAccessed(Field.POSITION);
+    return positionRotations;
+  }
+
+  /** Get the velocity of the CANcoder, in rotations per second. */
+  public double getVelocityRotationsPerSec() {
+    markAccessed(Field.VELOCITY);
+    return velocityRotationsPerSec;
+  }
+
+  /** Get the health of the magnet of the CANcoder, as a {@link MagnetHealthValue} value. */
+  public int getMagnetHealth() {
+    markAccessed(Field.MAGNET_HEALTH);
+    return magnetHealth;
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.sensordata;
+
+import com.ctre.phoenix6.BaseStatusSignal;
+import com.ctre.phoenix6.hardware.Pigeon2;
+import com.team1165.util.constants.CANFrequency;
+import com.team1165.util.vendor.ctre.PhoenixDeviceConfigs.PigeonConfig;
+import com.team1165.util.vendor.ctre.PrimitiveSignal;
+import org.littletonrobotics.junction.LogTable;
+
+/**
+ * {@link SensorData} class that uses status signals from a Pigeon 2 IMU to log data.
+ *
+ * <p>If an axis of the Pigeon is used as a remote sensor by a Talon FX, {@link
+ * com.team1165.util.vendor.ctre.PhoenixDeviceUtils} pins it to {@link CANFrequency#FAST}, and that
+ * field never drops below it.
+ */
+public class ImuData extends SensorData<ImuData.Field> {
+  /** Enum representing the fields collected by {@link ImuData}. */
+  public enum Field {
+    YAW,
+    PITCH,
+    ROLL,
+    YAW_VELOCITY
+  }
+
+  // Primitive views over the status signals providing the data to log
+  private final PrimitiveSignal yawSignal;
+  private final PrimitiveSignal pitchSignal;
+  private final PrimitiveSignal rollSignal;
+  private final PrimitiveSignal yawVelocitySignal;
+
+  // Latest values of each field
+  private double yawDegrees = 0.0;
+  private double pitchDegrees = 0.0;
+  private double rollDegrees = 0.0;
+  private double yawVelocityDegreesPerSec = 0.0;
+
+  /**
+   * Creates an {@link ImuData} using the specified constants.
+   *
+   * @param pigeon The {@link Pigeon2} to log data from.
+   * @param config The {@link PigeonConfig} for this Pigeon. Used for name, CAN ID, and CAN bus.
+   */
+  public ImuData(Pigeon2 pigeon, PigeonConfig config) {
+    super(
+        "Pigeon",
+        config.name(),
+        config.canId(),
+        config.canBus(),
+        pigeon,
+        new BaseStatusSignal[][] {
+          {pigeon.getYaw()},
+          {pigeon.getPitch()},
+          {pigeon.getRoll()},
+          {pigeon.getAngularVelocityZWorld()}
+        },
+        new CANFrequency[] {
+          CANFrequency.MEDIUM, CANFrequency.SLOW, CANFrequency.SLOW, CANFrequency.MEDIUM
+        });
+
+    // Phoenix returns the same status signal objects every time they are retrieved, and they are
+    // read through primitive views to avoid allocating while updating
+    yawSignal = new PrimitiveSignal(pigeon.getYaw());
+    pitchSignal = new PrimitiveSignal(pigeon.getPitch());
+    rollSignal = new PrimitiveSignal(pigeon.getRoll());
+    yawVelocitySignal = new PrimitiveSignal(pigeon.getAngularVelocityZWorld());
+  }
+
+  @Override
+  void update() {
+    // Compensate the yaw for latency, as it is commonly used for odometry
+    yawDegrees = yawSignal.getLatencyCompensated(yawVelocitySignal);
+    pitchDegrees = pitchSignal.getDouble();
+    rollDegrees = rollSignal.getDouble();
+    yawVelocityDegreesPerSec = yawVelocitySignal.getDouble();
+  }
+
+  @Override
+  public void toLog(LogTable table) {
+    super.toLog(table);
+    table.put("YawDegrees", yawDegrees);
+    table.put("PitchDegrees", pitchDegrees);
+    table.put("RollDegrees", rollDegrees);
+    table.put("YawVelocityDegreesPerSec", yawVelocityDegreesPerSec);
+  }
+
+  @Override
+  public void fromLog(LogTable table) {
+    super.fromLog(table);
+    yawDegrees = table.get("YawDegrees", yawDegrees);
+    pitchDegrees = table.get("PitchDegrees", pitchDegrees);
+    rollDegrees = table.get("RollDegrees", rollDegrees);
+    yawVelocityDegreesPerSec = table.get("YawVelocityDegreesPerSec", yawVelocityDegreesPerSec);
+  }
+
+  /** Get the latency-compensated yaw of the Pigeon, in degrees. */
+  public double getYawDegrees() {
+    markAccessed(Field.YAW);
+    markAccessed(Field.YAW_VELOCITY);
+    return yawDegrees;
+  }
+
+  /** Get the pitch of the Pigeon, in degrees. */
+  public double getPitchDegrees() {
+    markAccessed(Field.PITCH);
+    return pitchDegrees;
+  }
+
+  /** Get the roll of the Pigeon, in degrees. */
+  public double getRollDegrees() {
+    markAccessed(Field.ROLL);
+    return rollDegrees;
+  }
+
+  /** Get the yaw velocity of the Pigeon (around the world Z axis), in degrees per second. */
+  public double getYawVelocityDegreesPerSec() {
+    markAccessed(Field.YAW_VELOCITY);
+    return yawVelocityDegreesPerSec;
+  }
+}
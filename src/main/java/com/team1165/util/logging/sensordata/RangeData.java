@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.sensordata;
+
+import com.ctre.phoenix6.BaseStatusSignal;
+import com.ctre.phoenix6.hardware.CANrange;
+import com.team1165.util.constants.CANFrequency;
+import com.team1165.util.vendor.ctre.PhoenixDeviceConfigs.CANrangeConfig;
+import com.team1165.util.vendor.ctre.PrimitiveSignal;
+import org.littletonrobotics.junction.LogTable;
+
+/**
+ * {@link SensorData} class that uses status signals from a CANrange to log data.
+ *
+ * <p>If the CANrange is used as a remote limit switch by a Talon FX, {@link
+ * com.team1165.util.vendor.ctre.PhoenixDeviceUtils} pins its detection to {@link
+ * CANFrequency#FAST}, and that field never drops below it.
+ */
+public class RangeData extends SensorData<RangeData.Field> {
+  /** Enum representing the fields collected by {@link RangeData}. */
+  public enum Field {
+    DETECTED,
+    DISTANCE,
+    SIGNAL_STRENGTH
+  }
+
+  // Primitive views over the status signals providing the data to log
+  private final PrimitiveSignal detectedSignal;
+  private final PrimitiveSignal distanceSignal;
+  private final PrimitiveSignal signalStrengthSignal;
+
+  // Latest values of each field
+  private boolean detected = false;
+  private double distanceMeters = 0.0;
+  private double signalStrength = 0.0;
+
+  /**
+   * Creates a {@link RangeData} using the specified constants.
+   *
+   * @param canrange The {@link CANrange} to log data from.
+   * @param config The {@link CANrangeConfig} for this CANrange. Used for name, CAN ID, and CAN bus.
+   */
+  public RangeData(CANrange canrange, CANrangeConfig config) {
+    super(
+        "CANrange",
+        config.name(),
+        config.canId(),
+        config.canBus(),
+        canrange,
+        new BaseStatusSignal[][] {
+          {canrange.getIsDetected()}, {canrange.getDistance()}, {canrange.getSignalStrength()}
+        },
+        new CANFrequency[] {CANFrequency.MEDIUM, CANFrequency.MEDIUM, CANFrequency.SLOW});
+
+    // Phoenix returns the same status signal objects every time they are retrieved, and they are
+    // read through primitive views to avoid allocating while updating
+    detectedSignal = new PrimitiveSignal(canrange.getIsDetected());
+    distanceSignal = new PrimitiveSignal(canrange.getDistance());
+    signalStrengthSignal = new PrimitiveSignal(canrange.getSignalStrength());
+  }
+
+  @Override
+  void update() {
+    detected = detectedSignal.getBoolean();
+    distanceMeters = distanceSignal.getDouble();
+    signalStrength = signalStrengthSignal.getDouble();
+  }
+
+  @Override
+  public void toLog(LogTable table) {
+    super.toLog(table);
+    table.put("Detected", detected);
+    table.put("DistanceMeters", distanceMeters);
+    table.put("SignalStrength", signalStrength);
+  }
+
+  @Override
+  public void fromLog(LogTable table) {
+    super.fromLog(table);
+    detected = table.get("Detected", detected);
+    distanceMeters = table.get("DistanceMeters", distanceMeters);
+    signalStrength = table.get("SignalStrength", signalStrength);
+  }
+
+  /** Get whether the CANrange currently detects an object. */
+  public boolean getDetected() {
+    markAccessed(Field.DETECTED);
+    return detected;
+  }
+
+  /** Get the distance to the detected object, in meters. */
+  public double getDistanceMeters() {
+    markAccessed(Field.DISTANCE);
+    return distanceMeters;
+  }
+
+  /** Get the strength of the signal received by the CANrange. */
+  public double getSignalStrength() {
+    markAccessed(Field.SIGNAL_STRENGTH);
+    return signalStrength;
+  }
+}
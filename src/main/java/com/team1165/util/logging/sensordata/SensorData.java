@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.sensordata;
+
+import com.ctre.phoenix6.BaseStatusSignal;
+import com.ctre.phoenix6.CANBus;
+import com.team1165.util.constants.AlertConstants;
+import com.team1165.util.constants.CANFrequency;
+import com.team1165.util.vendor.ctre.PhoenixSignalUtils;
+import edu.wpi.first.math.filter.Debouncer;
+import edu.wpi.first.math.filter.Debouncer.DebounceType;
+import edu.wpi.first.wpilibj.Alert;
+import edu.wpi.first.wpilibj.Alert.AlertType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.littletonrobotics.junction.LogTable;
+import org.littletonrobotics.junction.Logger;
+import org.littletonrobotics.junction.inputs.LoggableInputs;
+
+/**
+ * Class that provides easy collection of the values of a CTRE sensor through its status signals.
+ *
+ * <p>Every instance is updated and logged under {@code SensorData/<name>} through {@link
+ * #periodicAll()}. Like {@link com.team1165.util.logging.motordata.MotorData}, reading a field
+ * through its getter keeps the signals of that field at {@link CANFrequency#FAST} for one second,
+ * after which they drop back to their baseline frequency, so the sensor only uses bandwidth for
+ * fields that code actually reads.
+ *
+ * @param <F> The enum of the fields of the sensor, each mapped to its own status signals.
+ */
+public abstract class SensorData<F extends Enum<F>> implements LoggableInputs {
+  /** Key that every sensor is logged under. */
+  private static final String logKey = "SensorData/";
+
+  /** Time (in seconds) a field stays at a fast frequency after being read through a getter. */
+  private static final double accessLeaseSeconds = 1.0;
+
+  /** All created {@link SensorData} instances, updated together by {@link #periodicAll()}. */
+  private static final ArrayList<SensorData<?>> sensors = new ArrayList<>();
+
+  /** Timestamp (in seconds) of the current loop, used to time accesses. */
+  private static double loopTimestamp = 0.0;
+
+  /** The name of the sensor in logs. */
+  private final String name;
+
+  /** CAN bus to use for frequency configuration. */
+  private final CANBus canBus;
+
+  /** Signals providing each field, indexed by field ordinal. */
+  private final BaseStatusSignal[][] fieldSignals;
+
+  // Frequencies of each field, indexed by field ordinal
+  private final CANFrequency[] baselineFrequencies;
+  private final CANFrequency[] appliedFrequencies;
+
+  /** Expiration of the implicit lease taken when a field is read, indexed by field ordinal. */
+  private final double[] accessExpirations;
+
+  /** Debouncer to avoid false disconnection alerts. */
+  private final Debouncer connectedDebouncer = new Debouncer(0.2, DebounceType.kFalling);
+
+  /** Alert to send if the sensor is disconnected. */
+  private final Alert connectedAlert;
+
+  /** Whether the sensor is connected. */
+  private boolean connected = false;
+
+  /**
+   * Creates a new {@link SensorData}, setting every field to its baseline frequency and registering
+   * every signal with {@link PhoenixSignalUtils}, owned by the device.
+   *
+   * @param type The type of the sensor, used in alerts.
+   * @param name The name of the sensor in logs and alerts.
+   * @param canId The CAN ID of the sensor, used in alerts.
+   * @param canBus The CAN bus that the sensor is located on.
+   * @param device The device that owns the signals.
+   * @param fieldSignals The signals providing each field, indexed by field ordinal. Fields must not
+   *     share signals, and the first signal of the first field is used to check the connection.
+   * @param baselineFrequencies The frequency of each field when it is not being read, indexed by
+   *     field ordinal.
+   */
+  SensorData(
+      String type,
+      String name,
+      int canId,
+      CANBus canBus,
+      Object device,
+      BaseStatusSignal[][] fieldSignals,
+      CANFrequency[] baselineFrequencies) {
+    this.name = name;
+    this.canBus = canBus;
+    this.fieldSignals = fieldSignals;
+    this.baselineFrequencies = baselineFrequencies;
+    appliedFrequencies = Arrays.copyOf(baselineFrequencies, baselineFrequencies.length);
+    accessExpirations = new double[fieldSignals.length];
+
+    for (int i = 0; i < fieldSignals.length; i++) {
+      PhoenixSignalUtils.setFrequencyAndRegister(
+          canBus, device, baselineFrequencies[i], fieldSignals[i]);
+    }
+
+    connectedAlert =
+        new Alert(
+            AlertConstants.general,
+            type + " \"" + name + "\" (ID: " + canId + ") is disconnected!",
+            AlertType.kError);
+    sensors.add(this);
+  }
+
+  /**
+   * Applies any changed update frequencies, then updates and logs every {@link SensorData}. Should
+   * be called once per loop, after all Phoenix signals have been refreshed.
+   */
+  public static void periodicAll() {
+    loopTimestamp = Logger.getTimestamp() / 1e6;
+    for (SensorData<?> sensor : sensors) {
+      sensor.updateFrequencies();
+      sensor.updateConnected();
+      sensor.update();
+      Logger.processInputs(logKey + sensor.name, sensor);
+    }
+  }
+
+  /**
+   * Updates a LogTable with the data to log. Subclasses must call this before logging their own
+   * values.
+   *
+   * @param table The table to which data should be written.
+   */
+  @Override
+  public void toLog(LogTable table) {
+    table.put("Connected", connected);
+  }
+
+  /**
+   * Updates data based on a LogTable. Subclasses must call this before reading their own values.
+   *
+   * @param table The table from which data should be read.
+   */
+  @Override
+  public void fromLog(LogTable table) {
+    connected = table.get("Connected", connected);
+  }
+
+  /**
+   * Updates the values of the sensor from its status signals. Called once per loop by {@link
+   * #periodicAll()}, after the connection has been checked.
+   */
+  abstract void update();
+
+  /** Get whether the sensor is connected. */
+  public boolean getConnected() {
+    return connected;
+  }
+
+  /**
+   * Set the frequency that a field is updated at when it is not being read, applied on the next
+   * loop. Signals pinned by {@link com.team1165.util.vendor.ctre.PhoenixDeviceUtils}, such as the
+   * detection of a CANrange used as a remote limit switch, never drop below their pinned frequency.
+   *
+   * @param field The field to set the baseline frequency for.
+   * @param frequency The baseline {@link CANFrequency} of the field.
+   */
+  @SuppressWarnings("EnumOrdinal")
+  public final void setBaselineFrequency(F field, CANFrequency frequency) {
+    baselineFrequencies[field.ordinal()] = frequency;
+  }
+
+  /**
+   * Renew the implicit lease that keeps a field at a fast frequency while it is being read.
+   *
+   * @param field The field being read.
+   */
+  @SuppressWarnings("EnumOrdinal")
+  final void markAccessed(F field) {
+    accessExpirations[field.ordinal()] = loopTimestamp + accessLeaseSeconds;
+  }
+
+  /** Checks the connection of the sensor, and activates an alert if it is disconnected. */
+  private void updateConnected() {
+    connected = connectedDebouncer.calculate(fieldSignals[0][0].getStatus().isOK());
+    connectedAlert.set(!connected);
+  }
+
+  /** Calculates the frequency of each field, and applies every changed frequency. */
+  private void updateFrequencies() {
+    for (int i = 0; i < fieldSignals.length; i++) {
+      CANFrequency target =
+          loopTimestamp < accessExpirations[i] ? CANFrequency.FAST : baselineFrequencies[i];
+      if (target != appliedFrequencies[i]) {
+        appliedFrequencies[i] = target;
+        PhoenixSignalUtils.setUpdateFrequency(canBus, target, false, fieldSignals[i]);
+      }
+    }
+  }
+}
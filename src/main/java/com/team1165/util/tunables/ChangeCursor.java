@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.tunables;
+
+/**
+ * Cursor that tracks the last version of a {@link Tunable} seen by a single consumer, so checking
+ * for changes is a single comparison without allocating.
+ */
+public final class ChangeCursor {
+  private final Tunable tunable;
+  private long seenVersion = -1;
+
+  /**
+   * Creates a new {@link ChangeCursor}, which reports a change on the first check.
+   *
+   * @param tunable The {@link Tunable} to track.
+   */
+  ChangeCursor(Tunable tunable) {
+    this.tunable = tunable;
+  }
+
+  /** Returns whether any values of the tunable have changed since the last check. */
+  public boolean hasChanged() {
+    long version = tunable.getVersion();
+    if (version != seenVersion) {
+      seenVersion = version;
+      return true;
+    }
+    return false;
+  }
+}
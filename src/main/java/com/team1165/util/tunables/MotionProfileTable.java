@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.tunables;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed rest-to-rest motion profile, stored as primitive lookup tables sampled at a fixed
+ * period.
+ *
+ * <p>Tables are generated once from the values of a {@link TunableMotionProfile} through {@link
+ * TunableMotionProfile#getTable}, following the same profiles as Motion Magic on a TalonFX, so
+ * SPARK-driven and simulated mechanisms can follow them too. Evaluating a table is a single index
+ * calculation and linear interpolation, so it is safe to do every loop.
+ */
+public final class MotionProfileTable {
+  /** Period (in seconds) between samples in the table. */
+  public static final double samplePeriodSeconds = 0.002;
+
+  /** Maximum number of samples in a table, limiting profiles to 60 seconds. */
+  private static final int maxSamples = 30000;
+
+  /** Voltage that exponential profiles assume is available, matching Motion Magic Expo. */
+  private static final double nominalVoltage = 12.0;
+
+  /** The type of profile in the table. */
+  public enum Type {
+    /** Trapezoidal profile, limited by cruise velocity and acceleration. */
+    TRAPEZOID,
+
+    /** S-curve profile, also limited by jerk (ignored if zero), like Motion Magic. */
+    S_CURVE,
+
+    /** Exponential profile, following the motor model of kV and kA, like Motion Magic Expo. */
+    EXPONENTIAL
+  }
+
+  private final double distance;
+  private final double[] position;
+  private final double[] velocity;
+  private final double[] acceleration;
+
+  /**
+   * Creates a new {@link MotionProfileTable} from sampled velocities.
+   *
+   * @param distance The signed distance of the profile.
+   * @param velocity The unsigned velocity at each sample, starting and ending at rest.
+   */
+  private MotionProfileTable(double distance, double[] velocity) {
+    this.distance = distance;
+    int count = velocity.length;
+    position = new double[count];
+    acceleration = new double[count];
+
+    // Integrate velocity into position, then scale out the integration error so the end is exact
+    for (int i = 1; i < count; i++) {
+      position[i] = position[i - 1] + (velocity[i - 1] + velocity[i]) * 0.5 * samplePeriodSeconds;
+    }
+    double scale = position[count - 1] > 0.0 ? Math.abs(distance) / position[count - 1] : 0.0;
+    double sign = Math.signum(distance);
+    for (int i = 0; i < count; i++) {
+      position[i] *= scale * sign;
+      velocity[i] *= scale * sign;
+    }
+    if (count == 1) {
+      position[0] = distance;
+    }
+
+    // Differentiate velocity into acceleration
+    for (int i = 0; i < count; i++) {
+      int previous = Math.max(i - 1, 0);
+      int next = Math.min(i + 1, count - 1);
+      acceleration[i] =
+          next == previous
+              ? 0.0
+              : (velocity[next] - velocity[previous]) / ((next - previous) * samplePeriodSeconds);
+    }
+    this.velocity = velocity;
+  }
+
+  /**
+   * Generates a new {@link MotionProfileTable}. Invalid limits (such as a non-positive velocity or
+   * acceleration) generate a profile that jumps straight to the end.
+   *
+   * @param type The {@link Type} of profile to generate.
+   * @param distance The signed distance to travel, starting and ending at rest.
+   * @param cruiseVelocity The maximum velocity (optional for exponential profiles if zero).
+   * @param acceleration The maximum acceleration.
+   * @param jerk The maximum jerk, used by S-curve profiles (ignored if zero).
+   * @param exponentialV The kV of the motor model, used by exponential profiles.
+   * @param exponentialA The kA of the motor model, used by exponential profiles.
+   * @return The generated table.
+   */
+  static MotionProfileTable generate(
+      Type type,
+      double distance,
+      double cruiseVelocity,
+      double acceleration,
+      double jerk,
+      double exponentialV,
+      double exponentialA) {
+    double length = Math.abs(distance);
+    double[] velocity =
+        switch (type) {
+          case TRAPEZOID -> sampleTrapezoid(length, cruiseVelocity, acceleration);
+          case S_CURVE -> sampleSCurve(length, cruiseVelocity, acceleration, jerk);
+          case EXPONENTIAL -> sampleExponential(length, cruiseVelocity, exponentialV, exponentialA);
+        };
+    return new MotionProfileTable(distance, velocity);
+  }
+
+  /** Returns the total duration of the profile, in seconds. */
+  public double getDuration() {
+    return (position.length - 1) * samplePeriodSeconds;
+  }
+
+  /** Returns the signed distance travelled by the profile. */
+  public double getDistance() {
+    return distance;
+  }
+
+  /**
+   * Returns whether the profile has finished at the provided time.
+   *
+   * @param time The time since the start of the profile, in seconds.
+   * @return Whether the profile has finished.
+   */
+  public boolean isFinished(double time) {
+    return time >= getDuration();
+  }
+
+  /**
+   * Returns the position of the profile at the provided time, relative to its start.
+   *
+   * @param time The time since the start of the profile, in seconds.
+   * @return The interpolated position.
+   */
+  public double getPosition(double time) {
+    return interpolate(position, time);
+  }
+
+  /**
+   * Returns the velocity of the profile at the provided time.
+   *
+   * @param time The time since the start of the profile, in seconds.
+   * @return The interpolated velocity.
+   */
+  public double getVelocity(double time) {
+    return interpolate(velocity, time);
+  }
+
+  /**
+   * Returns the acceleration of the profile at the provided time.
+   *
+   * @param time The time since the start of the profile, in seconds.
+   * @return The interpolated acceleration.
+   */
+  public double getAcceleration(double time) {
+    return interpolate(acceleration, time);
+  }
+
+  /**
+   * Linearly interpolates a table at the provided time, clamped to the start and end.
+   *
+   * @param table The table to interpolate.
+   * @param time The time since the start of the profile, in seconds.
+   * @return The interpolated value.
+   */
+  private static double interpolate(double[] table, double time) {
+    double index = time / samplePeriodSeconds;
+    if (!(index > 0.0)) {
+      return table[0];
+    }
+    int lower = (int) index;
+    if (lower >= table.length - 1) {
+      return table[table.length - 1];
+    }
+    double fraction = index - lower;
+    return table[lower] + (table[lower + 1] - table[lower]) * fraction;
+  }
+
+  /**
+   * Samples the velocity of a trapezoidal profile.
+   *
+   * @param length The unsigned distance to travel.
+   * @param cruiseVelocity The maximum velocity.
+   * @param acceleration The maximum acceleration.
+   * @return The velocity at each sample.
+   */
+  private static double[] sampleTrapezoid(
+      double length, double cruiseVelocity, double acceleration) {
+    if (length <= 0.0 || cruiseVelocity <= 0.0 || acceleration <= 0.0) {
+      return new double[1];
+    }
+
+    // Use a triangular profile if cruise velocity cannot be reached
+    double peakVelocity = Math.min(cruiseVelocity, Math.sqrt(length * acceleration));
+    double rampTime = peakVelocity / acceleration;
+    double cruiseTime = (length - peakVelocity * rampTime) / peakVelocity;
+    double duration = 2.0 * rampTime + cruiseTime;
+
+    double[] velocity = new double[getSampleCount(duration)];
+    for (int i = 0; i < velocity.length; i++) {
+      double time = i * samplePeriodSeconds;
+      velocity[i] =
+          Math.max(0.0, Math.min(peakVelocity, Math.min(time, duration - time) * acceleration));
+    }
+    return velocity;
+  }
+
+  /**
+   * Samples the velocity of an S-curve profile. A jerk-limited profile is the trapezoidal profile
+   * filtered by a moving average as long as the time to reach full acceleration, which keeps the
+   * same distance and velocity limit, matching the jerk filter of Motion Magic.
+   *
+   * @param length The unsigned distance to travel.
+   * @param cruiseVelocity The maximum velocity.
+   * @param acceleration The maximum acceleration.
+   * @param jerk The maximum jerk, or zero to use a trapezoidal profile.
+   * @return The velocity at each sample.
+   */
+  private static double[] sampleSCurve(
+      double length, double cruiseVelocity, double acceleration, double jerk) {
+    double[] trapezoid = sampleTrapezoid(length, cruiseVelocity, acceleration);
+    int window = jerk > 0.0 ? (int) Math.round(acceleration / jerk / samplePeriodSeconds) : 0;
+    // Limit the smoothing to the samples left, and fall back to the trapezoid if there is no room
+    window = Math.min(window, maxSamples - trapezoid.length);
+    if (trapezoid.length == 1 || window <= 1) {
+      return trapezoid;
+    }
+
+    // Running sum over the trapezoid, treating samples outside of it as rest
+    double[] velocity = new double[trapezoid.length + window];
+    double sum = 0.0;
+    for (int i = 0; i < velocity.length; i++) {
+      if (i < trapezoid.length) {
+        sum += trapezoid[i];
+      }
+      if (i >= window) {
+        sum -= trapezoid[i - window];
+      }
+      velocity[i] = Math.max(0.0, sum / window);
+    }
+    return velocity;
+  }
+
+  /**
+   * Samples the velocity of an exponential profile, accelerating with full voltage through the
+   * motor model until the remaining distance is needed to stop with full reverse voltage.
+   *
+   * @param length The unsigned distance to travel.
+   * @param cruiseVelocity The maximum velocity, or zero to only be limited by the motor model.
+   * @param exponentialV The kV of the motor model, in volts per unit of velocity.
+   * @param exponentialA The kA of the motor model, in volts per unit of acceleration.
+   * @return The velocity at each sample.
+   */
+  private static double[] sampleExponential(
+      double length, double cruiseVelocity, double exponentialV, double exponentialA) {
+    if (length <= 0.0
+        || exponentialA <= 0.0
+        || exponentialV < 0.0
+        || (exponentialV == 0.0 && cruiseVelocity <= 0.0)) {
+      return new double[1];
+    }
+    double maxVelocity = cruiseVelocity > 0.0 ? cruiseVelocity : Double.POSITIVE_INFINITY;
+
+    double[] velocity = new double[maxSamples];
+    double position = 0.0;
+    int count = 1;
+    boolean stopping = false;
+    while (count < maxSamples) {
+      double current = velocity[count - 1];
+      stopping |=
+          position + getExponentialStoppingDistance(current, exponentialV, exponentialA) >= length;
+
+      // Integrate the motor model, with full voltage in the direction of travel or against it
+      double voltage = stopping ? -nominalVoltage : nominalVoltage;
+      double next =
+          Math.min(
+              maxVelocity,
+              current + (voltage - exponentialV * current) / exponentialA * samplePeriodSeconds);
+      if (stopping && next <= 0.0) {
+        velocity[count++] = 0.0;
+        break;
+      }
+      velocity[count++] = next;
+      position += (current + next) * 0.5 * samplePeriodSeconds;
+    }
+    return Arrays.copyOf(velocity, count);
+  }
+
+  /**
+   * Returns the distance needed to stop from a velocity with full reverse voltage, through the
+   * motor model.
+   *
+   * @param velocity The current unsigned velocity.
+   * @param exponentialV The kV of the motor model.
+   * @param exponentialA The kA of the motor model.
+   * @return The stopping distance.
+   */
+  private static double getExponentialStoppingDistance(
+      double velocity, double exponentialV, double exponentialA) {
+    if (exponentialV == 0.0) {
+      return velocity * velocity * exponentialA / (2.0 * nominalVoltage);
+    }
+    return exponentialA / exponentialV * velocity
+        - exponentialA
+            * nominalVoltage
+            / (exponentialV * exponentialV)
+            * Math.log1p(exponentialV * velocity / nominalVoltage);
+  }
+
+  /**
+   * Returns the number of samples needed to cover a duration, including both ends.
+   *
+   * @param duration The duration of the profile, in seconds.
+   * @return The number of samples.
+   */
+  private static int getSampleCount(double duration) {
+    return (int) Math.min(maxSamples, Math.ceil(duration / samplePeriodSeconds) + 1);
+  }
+}
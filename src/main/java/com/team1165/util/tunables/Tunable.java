@@ -10,8 +10,15 @@ package com.team1165.util.tunables;
 /**
  * Abstract class for a tunable value, which is a value that can be adjusted in real time while the
  * robot is running, provided that {@link TuningManager} is enabled.
+ *
+ * <p>Changes are tracked through a composite version of every number in the tunable, which only
+ * ever increases. Consumers check for changes through a {@link ChangeCursor} from {@link
+ * #newCursor()}.
  */
 public abstract class Tunable {
+  /** Offset added to the versions of the numbers, so the version keeps increasing across modes. */
+  private long versionOffset = 0;
+
   protected Tunable() {
     // Register Tunable with TunableManager
     TuningManager.registerTunables(this);
@@ -19,4 +26,29 @@ public abstract class Tunable {
 
   /** Updates the tuning mode status using the status from {@link TuningManager}. */
   abstract void updateTuningMode();
+
+  /** Returns the sum of the versions of every number in the tunable. */
+  abstract long getNumberVersions();
+
+  /** Returns the composite version of the tunable, which increases whenever any value changes. */
+  public final long getVersion() {
+    return versionOffset + getNumberVersions();
+  }
+
+  /**
+   * Returns a new {@link ChangeCursor} for this tunable. Each consumer should get its own cursor
+   * once, and keep it to check for changes.
+   */
+  public final ChangeCursor newCursor() {
+    return new ChangeCursor(this);
+  }
+
+  /**
+   * Updates the tuning mode, keeping the composite version increasing even though every number is
+   * replaced. Called by {@link TuningManager}.
+   */
+  final void updateTuningModeAndVersion() {
+    versionOffset = getVersion() + 1;
+    updateTuningMode();
+  }
 }
@@ -8,15 +8,19 @@
 package com.team1165.util.tunables;
 
 import com.ctre.phoenix6.configs.MotionMagicConfigs;
-import com.team1165.util.tunables.wrappers.numbers.LoggedNumberWrapper;
+import com.team1165.util.tunables.MotionProfileTable.Type;
 import com.team1165.util.tunables.wrappers.numbers.NumberWrapper;
-import com.team1165.util.tunables.wrappers.numbers.StaticNumberWrapper;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Class for a set of tunable motion profiling values, which can be adjusted in real time while the
  * robot is running, if {@link TuningManager} is enabled, or return a static value otherwise.
  */
 public class TunableMotionProfile extends Tunable {
+  /** Maximum number of generated tables to keep, dropping the least recently used. */
+  private static final int maxCachedTables = 16;
+
   protected final String key;
   private NumberWrapper cruiseVelocity;
   private NumberWrapper acceleration;
@@ -24,6 +28,15 @@ public class TunableMotionProfile extends Tunable {
   private NumberWrapper exponentialV;
   private NumberWrapper exponentialA;
 
+  /** Generated tables, by the parameter set that they were generated from. */
+  private final LinkedHashMap<TableKey, MotionProfileTable> tables =
+      new LinkedHashMap<>(maxCachedTables, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TableKey, MotionProfileTable> eldest) {
+          return size() > maxCachedTables;
+        }
+      };
+
   /**
    * Creates a new {@link TunableMotionProfile}.
    *
@@ -98,17 +111,39 @@ public class TunableMotionProfile extends Tunable {
   }
 
   /**
-   * Returns whether any motion profiling values have changed since the last check.
+   * Returns a precomputed {@link MotionProfileTable} of a move with the current motion profiling
+   * values. Tables are cached by their full parameter set, so a table is only generated the first
+   * time it is requested after a value changes. The table should be requested once at the start of
+   * a move, and then evaluated every loop.
    *
-   * @param id Unique identifier for the caller to avoid conflicts when shared between multiple
-   *     objects. The recommended approach is to pass the result of {@code hashCode()}.
+   * @param type The {@link Type} of profile to generate.
+   * @param distance The signed distance of the move, starting and ending at rest.
+   * @return The table of the move.
    */
-  public boolean hasChanged(int id) {
-    return cruiseVelocity.hasChanged(id)
-        || acceleration.hasChanged(id)
-        || jerk.hasChanged(id)
-        || exponentialV.hasChanged(id)
-        || exponentialA.hasChanged(id);
+  public MotionProfileTable getTable(Type type, double distance) {
+    TableKey tableKey =
+        new TableKey(
+            type,
+            distance,
+            cruiseVelocity.get(),
+            acceleration.get(),
+            jerk.get(),
+            exponentialV.get(),
+            exponentialA.get());
+    MotionProfileTable table = tables.get(tableKey);
+    if (table == null) {
+      table =
+          MotionProfileTable.generate(
+              type,
+              distance,
+              tableKey.cruiseVelocity(),
+              tableKey.acceleration(),
+              tableKey.jerk(),
+              tableKey.exponentialV(),
+              tableKey.exponentialA());
+      tables.put(tableKey, table);
+    }
+    return table;
   }
 
   /**
@@ -126,19 +161,11 @@ public class TunableMotionProfile extends Tunable {
       double jerk,
       double exponentialV,
       double exponentialA) {
-    if (TuningManager.get()) {
-      this.cruiseVelocity = new LoggedNumberWrapper(key + "/CruiseVelocity", cruiseVelocity);
-      this.acceleration = new LoggedNumberWrapper(key + "/Acceleration", acceleration);
-      this.jerk = new LoggedNumberWrapper(key + "/Jerk", jerk);
-      this.exponentialV = new LoggedNumberWrapper(key + "/kV", exponentialV);
-      this.exponentialA = new LoggedNumberWrapper(key + "/kA", exponentialA);
-    } else {
-      this.cruiseVelocity = new StaticNumberWrapper(cruiseVelocity);
-      this.acceleration = new StaticNumberWrapper(acceleration);
-      this.jerk = new StaticNumberWrapper(jerk);
-      this.exponentialV = new StaticNumberWrapper(exponentialV);
-      this.exponentialA = new StaticNumberWrapper(exponentialA);
-    }
+    this.cruiseVelocity = TuningManager.createNumber(key + "/CruiseVelocity", cruiseVelocity);
+    this.acceleration = TuningManager.createNumber(key + "/Acceleration", acceleration);
+    this.jerk = TuningManager.createNumber(key + "/Jerk", jerk);
+    this.exponentialV = TuningManager.createNumber(key + "/kV", exponentialV);
+    this.exponentialA = TuningManager.createNumber(key + "/kA", exponentialA);
   }
 
   @Override
@@ -150,4 +177,23 @@ public class TunableMotionProfile extends Tunable {
         exponentialV.get(),
         exponentialA.get());
   }
+
+  @Override
+  long getNumberVersions() {
+    return cruiseVelocity.getVersion()
+        + acceleration.getVersion()
+        + jerk.getVersion()
+        + exponentialV.getVersion()
+        + exponentialA.getVersion();
+  }
+
+  /** The full parameter set of a generated table, used as its cache key. */
+  private record TableKey(
+      Type type,
+      double distance,
+      double cruiseVelocity,
+      double acceleration,
+      double jerk,
+      double exponentialV,
+      double exponentialA) {}
 }
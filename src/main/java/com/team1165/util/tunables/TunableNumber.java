@@ -7,9 +7,7 @@
 
 package com.team1165.util.tunables;
 
-import com.team1165.util.tunables.wrappers.numbers.LoggedNumberWrapper;
 import com.team1165.util.tunables.wrappers.numbers.NumberWrapper;
-import com.team1165.util.tunables.wrappers.numbers.StaticNumberWrapper;
 
 /**
  * Class for a tunable number, which is a number that can be adjusted in real time while the robot
@@ -36,28 +34,22 @@ public class TunableNumber extends Tunable {
     return value.get();
   }
 
-  /**
-   * Returns whether the value has changed since the last check.
-   *
-   * @param id Unique identifier for the caller to avoid conflicts when shared between multiple
-   *     objects. The recommended approach is to pass the result of {@code hashCode()}.
-   */
-  public boolean hasChanged(int id) {
-    return value.hasChanged(id);
-  }
-
   /**
    * Updates the tuning mode status using the status from {@link TuningManager}.
    *
    * @param value The value to provide to the new {@link NumberWrapper}.
    */
   private void updateTuningMode(double value) {
-    this.value =
-        TuningManager.get() ? new LoggedNumberWrapper(key, value) : new StaticNumberWrapper(value);
+    this.value = TuningManager.createNumber(key, value);
   }
 
   @Override
   void updateTuningMode() {
     updateTuningMode(value.get());
   }
+
+  @Override
+  long getNumberVersions() {
+    return value.getVersion();
+  }
 }
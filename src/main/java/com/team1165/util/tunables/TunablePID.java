@@ -9,9 +9,7 @@ package com.team1165.util.tunables;
 
 import com.ctre.phoenix6.configs.Slot0Configs;
 import com.ctre.phoenix6.configs.SlotConfigs;
-import com.team1165.util.tunables.wrappers.numbers.LoggedNumberWrapper;
 import com.team1165.util.tunables.wrappers.numbers.NumberWrapper;
-import com.team1165.util.tunables.wrappers.numbers.StaticNumberWrapper;
 import edu.wpi.first.math.controller.PIDController;
 
 /**
@@ -93,16 +91,6 @@ public class TunablePID extends Tunable {
     return new SlotConfigs().withKP(kP.get()).withKI(kI.get()).withKD(kD.get());
   }
 
-  /**
-   * Returns whether any PID values have changed since the last check.
-   *
-   * @param id Unique identifier for the caller to avoid conflicts when shared between multiple
-   *     objects. The recommended approach is to pass the result of {@code hashCode()}.
-   */
-  public boolean hasChanged(int id) {
-    return kP.hasChanged(id) || kI.hasChanged(id) || kD.hasChanged(id);
-  }
-
   /**
    * Updates the tuning mode status using the status from {@link TuningManager}.
    *
@@ -111,19 +99,18 @@ public class TunablePID extends Tunable {
    * @param kD The new kD value to use (derivative gain).
    */
   private void updateTuningMode(double kP, double kI, double kD) {
-    if (TuningManager.get()) {
-      this.kP = new LoggedNumberWrapper(key + "/kP", kP);
-      this.kI = new LoggedNumberWrapper(key + "/kI", kI);
-      this.kD = new LoggedNumberWrapper(key + "/kD", kD);
-    } else {
-      this.kP = new StaticNumberWrapper(kP);
-      this.kI = new StaticNumberWrapper(kI);
-      this.kD = new StaticNumberWrapper(kD);
-    }
+    this.kP = TuningManager.createNumber(key + "/kP", kP);
+    this.kI = TuningManager.createNumber(key + "/kI", kI);
+    this.kD = TuningManager.createNumber(key + "/kD", kD);
   }
 
   @Override
   void updateTuningMode() {
     updateTuningMode(kP.get(), kI.get(), kD.get());
   }
+
+  @Override
+  long getNumberVersions() {
+    return kP.getVersion() + kI.getVersion() + kD.getVersion();
+  }
 }
@@ -9,9 +9,7 @@ package com.team1165.util.tunables;
 
 import com.ctre.phoenix6.configs.Slot0Configs;
 import com.ctre.phoenix6.configs.SlotConfigs;
-import com.team1165.util.tunables.wrappers.numbers.LoggedNumberWrapper;
 import com.team1165.util.tunables.wrappers.numbers.NumberWrapper;
-import com.team1165.util.tunables.wrappers.numbers.StaticNumberWrapper;
 import edu.wpi.first.math.controller.PIDController;
 import edu.wpi.first.math.controller.SimpleMotorFeedforward;
 
@@ -123,21 +121,6 @@ public class TunablePIDF extends TunablePID {
         .withKG(kG.get());
   }
 
-  /**
-   * Returns whether any PID or feedforward values have changed since the last check.
-   *
-   * @param id Unique identifier for the caller to avoid conflicts when shared between multiple
-   *     objects. The recommended approach is to pass the result of {@code hashCode()}.
-   */
-  @Override
-  public boolean hasChanged(int id) {
-    return super.hasChanged(id)
-        || kS.hasChanged(id)
-        || kV.hasChanged(id)
-        || kA.hasChanged(id)
-        || kG.hasChanged(id);
-  }
-
   /**
    * Updates the tuning mode status using the status from {@link TuningManager}.
    *
@@ -147,17 +130,10 @@ public class TunablePIDF extends TunablePID {
    * @param kG The new kG value to use (gravity feedforward/feedback gain).
    */
   private void updateTuningMode(double kS, double kV, double kA, double kG) {
-    if (TuningManager.get()) {
-      this.kS = new LoggedNumberWrapper(key + "/kS", kS);
-      this.kV = new LoggedNumberWrapper(key + "/kV", kV);
-      this.kA = new LoggedNumberWrapper(key + "/kA", kA);
-      this.kG = new LoggedNumberWrapper(key + "/kG", kG);
-    } else {
-      this.kS = new StaticNumberWrapper(kS);
-      this.kV = new StaticNumberWrapper(kV);
-      this.kA = new StaticNumberWrapper(kA);
-      this.kG = new StaticNumberWrapper(kG);
-    }
+    this.kS = TuningManager.createNumber(key + "/kS", kS);
+    this.kV = TuningManager.createNumber(key + "/kV", kV);
+    this.kA = TuningManager.createNumber(key + "/kA", kA);
+    this.kG = TuningManager.createNumber(key + "/kG", kG);
   }
 
   @Override
@@ -166,4 +142,13 @@ public class TunablePIDF extends TunablePID {
     super.updateTuningMode();
     updateTuningMode(kS.get(), kV.get(), kA.get(), kG.get());
   }
+
+  @Override
+  long getNumberVersions() {
+    return super.getNumberVersions()
+        + kS.getVersion()
+        + kV.getVersion()
+        + kA.getVersion()
+        + kG.getVersion();
+  }
 }
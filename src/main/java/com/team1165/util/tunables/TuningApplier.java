@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.tunables;
+
+import com.ctre.phoenix6.StatusCode;
+import com.ctre.phoenix6.configs.MotionMagicConfigs;
+import com.ctre.phoenix6.configs.SlotConfigs;
+import com.ctre.phoenix6.configs.TalonFXConfigurator;
+import com.ctre.phoenix6.hardware.TalonFX;
+import com.revrobotics.spark.ClosedLoopSlot;
+import com.revrobotics.spark.SparkBase;
+import com.revrobotics.spark.SparkBase.PersistMode;
+import com.revrobotics.spark.SparkBase.ResetMode;
+import com.revrobotics.spark.SparkMax;
+import com.revrobotics.spark.config.SparkBaseConfig;
+import com.revrobotics.spark.config.SparkFlexConfig;
+import com.revrobotics.spark.config.SparkMaxConfig;
+import com.team1165.util.constants.AlertConstants;
+import com.team1165.util.constants.CompetitionConstants;
+import com.team1165.util.vendor.ctre.PhoenixSignalUtils;
+import com.team1165.util.vendor.rev.SparkUtils;
+import edu.wpi.first.wpilibj.Alert;
+import edu.wpi.first.wpilibj.Alert.AlertType;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.littletonrobotics.junction.Logger;
+
+/**
+ * Class that pushes tuned values to the motor controllers that use them, without blocking the main
+ * loop.
+ *
+ * <p>Each {@link Tunable} is bound to one or more devices, along with the single config group that
+ * it controls (a slot, or the motion profile). When the tunable changes, only that group is built
+ * on the main thread and then written to every bound device on a background thread. Changes are
+ * coalesced, so each binding writes at most once per {@link #coalesceWindowSeconds}, and never
+ * while a previous write is still running. Dragging a slider therefore produces one write per
+ * device per window, always with the latest values. TalonFX groups are read from each device once,
+ * before the first write, and writes only overwrite the values that the tunable owns. Nothing is
+ * read or started until a tunable first changes, so bindings cost nothing while tuning is off.
+ *
+ * <p>Bindings do nothing in competition builds, as tunables can never change.
+ */
+public final class TuningApplier {
+  /** Minimum time (in seconds) between writes of a single binding. */
+  private static final double coalesceWindowSeconds = 0.1;
+
+  /** Number of times to attempt each write before failing. */
+  private static final int writeAttempts = 3;
+
+  /** Every binding, checked for changes by {@link #periodic()}. */
+  private static final ArrayList<Binding> bindings = new ArrayList<>();
+
+  /** Worker thread that writes to devices, created when the first write starts. */
+  private static ExecutorService executor = null;
+
+  /** Private constructor to prevent instantiation. */
+  private TuningApplier() {}
+
+  /**
+   * Binds PID (and feedforward, for a {@link TunablePIDF}) values to a slot of one or more TalonFX
+   * motor controllers. The slot is read from each device before the first write, and only the
+   * gains the tunable owns are overwritten, so other slot values (such as kS-kG for a {@link
+   * TunablePID}, or the gravity type) are kept.
+   *
+   * @param gains The {@link TunablePID} or {@link TunablePIDF} to apply.
+   * @param slot The slot to apply the values to (0-2).
+   * @param talons The {@link TalonFX} devices to apply the values to.
+   */
+  public static void bind(TunablePID gains, int slot, TalonFX... talons) {
+    TalonGroup<SlotConfigs> group =
+        new TalonGroup<>(
+            talons,
+            () -> {
+              SlotConfigs configs = new SlotConfigs();
+              configs.SlotNumber = slot;
+              return configs;
+            },
+            (configurator, configs) -> configurator.refresh(configs),
+            (configurator, configs) -> configurator.apply(configs));
+    bind(
+        gains,
+        gains.key,
+        () -> {
+          double kP = gains.getP();
+          double kI = gains.getI();
+          double kD = gains.getD();
+          TunablePIDF feedforward = gains instanceof TunablePIDF pidf ? pidf : null;
+          double kS = feedforward != null ? feedforward.getS() : 0.0;
+          double kV = feedforward != null ? feedforward.getV() : 0.0;
+          double kA = feedforward != null ? feedforward.getA() : 0.0;
+          double kG = feedforward != null ? feedforward.getG() : 0.0;
+          return () ->
+              group.apply(
+                  configs -> {
+                    configs.kP = kP;
+                    configs.kI = kI;
+                    configs.kD = kD;
+                    if (feedforward != null) {
+                      configs.kS = kS;
+                      configs.kV = kV;
+                      configs.kA = kA;
+                      configs.kG = kG;
+                    }
+                  });
+        });
+  }
+
+  /**
+   * Binds motion profile values to the MotionMagic configs of one or more TalonFX motor
+   * controllers. The configs are read from each device before the first write, and only the values
+   * the profile owns are overwritten.
+   *
+   * @param profile The {@link TunableMotionProfile} to apply.
+   * @param talons The {@link TalonFX} devices to apply the values to.
+   */
+  public static void bind(TunableMotionProfile profile, TalonFX... talons) {
+    TalonGroup<MotionMagicConfigs> group =
+        new TalonGroup<>(
+            talons,
+            MotionMagicConfigs::new,
+            (configurator, configs) -> configurator.refresh(configs),
+            (configurator, configs) -> configurator.apply(configs));
+    bind(
+        profile,
+        profile.key,
+        () -> {
+          double cruiseVelocity = profile.getCruiseVelocity();
+          double acceleration = profile.getAcceleration();
+          double jerk = profile.getJerk();
+          double exponentialV = profile.getExponentialV();
+          double exponentialA = profile.getExponentialA();
+          return () ->
+              group.apply(
+                  configs -> {
+                    configs.MotionMagicCruiseVelocity = cruiseVelocity;
+                    configs.MotionMagicAcceleration = acceleration;
+                    configs.MotionMagicJerk = jerk;
+                    configs.MotionMagicExpo_kV = exponentialV;
+                    configs.MotionMagicExpo_kA = exponentialA;
+                  });
+        });
+  }
+
+  /**
+   * Binds PID (and feedforward, for a {@link TunablePIDF}) values to a closed loop slot of one or
+   * more SPARK motor controllers.
+   *
+   * @param gains The {@link TunablePID} or {@link TunablePIDF} to apply.
+   * @param slot The {@link ClosedLoopSlot} to apply the values to.
+   * @param sparks The {@link SparkBase} devices to apply the values to.
+   */
+  public static void bind(TunablePID gains, ClosedLoopSlot slot, SparkBase... sparks) {
+    bind(
+        gains,
+        gains.key,
+        () -> {
+          double kP = gains.getP();
+          double kI = gains.getI();
+          double kD = gains.getD();
+          TunablePIDF feedforward = gains instanceof TunablePIDF pidf ? pidf : null;
+          double kS = feedforward != null ? feedforward.getS() : 0.0;
+          double kV = feedforward != null ? feedforward.getV() : 0.0;
+          double kA = feedforward != null ? feedforward.getA() : 0.0;
+          double kG = feedforward != null ? feedforward.getG() : 0.0;
+          return () ->
+              configureSparks(
+                  sparks,
+                  config -> {
+                    config.closedLoop.pid(kP, kI, kD, slot);
+                    if (feedforward != null) {
+                      config
+                          .closedLoop
+                          .feedForward
+                          .kS(kS, slot)
+                          .kV(kV, slot)
+                          .kA(kA, slot)
+                          .kG(kG, slot);
+                    }
+                  });
+        });
+  }
+
+  /**
+   * Binds motion profile values to the MAXMotion configs of a closed loop slot of one or more SPARK
+   * motor controllers. MAXMotion has no jerk or exponential profiles, so only the cruise velocity
+   * and acceleration are applied.
+   *
+   * @param profile The {@link TunableMotionProfile} to apply.
+   * @param slot The {@link ClosedLoopSlot} to apply the values to.
+   * @param sparks The {@link SparkBase} devices to apply the values to.
+   */
+  public static void bind(TunableMotionProfile profile, ClosedLoopSlot slot, SparkBase... sparks) {
+    bind(
+        profile,
+        profile.key,
+        () -> {
+          double cruiseVelocity = profile.getCruiseVelocity();
+          double acceleration = profile.getAcceleration();
+          return () ->
+              configureSparks(
+                  sparks,
+                  config ->
+                      config
+                          .closedLoop
+                          .maxMotion
+                          .cruiseVelocity(cruiseVelocity, slot)
+                          .maxAcceleration(acceleration, slot));
+        });
+  }
+
+  /**
+   * Writes every pending change that is due to its devices. Should be called once per loop, after
+   * {@link TuningManager#periodic()}.
+   */
+  public static void periodic() {
+    if (CompetitionConstants.competitionMode) {
+      return;
+    }
+    double timestamp = Logger.getTimestamp() / 1e6;
+    for (Binding binding : bindings) {
+      binding.periodic(timestamp);
+    }
+  }
+
+  /**
+   * Adds a binding, consuming the current version of the tunable so only later changes are written.
+   *
+   * @param tunable The {@link Tunable} to check for changes.
+   * @param key The full key of the tunable, used in alerts.
+   * @param write Builds a write of the current values on the main thread, which returns whether it
+   *     was successful when run on the worker thread.
+   */
+  private static void bind(Tunable tunable, String key, Supplier<BooleanSupplier> write) {
+    if (CompetitionConstants.competitionMode) {
+      return;
+    }
+    ChangeCursor cursor = tunable.newCursor();
+    cursor.hasChanged();
+    bindings.add(new Binding(key.substring(TuningManager.tuningKey.length()), cursor, write));
+  }
+
+  /**
+   * Returns the worker thread that writes to devices, creating it on the first write, so nothing
+   * is started while tuning mode stays off.
+   */
+  private static ExecutorService getExecutor() {
+    if (executor == null) {
+      executor =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "TuningApplier");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return executor;
+  }
+
+  /**
+   * Applies a partial configuration to every SPARK, without resetting or persisting parameters.
+   *
+   * @param sparks The SPARK motor controllers to configure.
+   * @param values Sets the values to apply on an empty config.
+   * @return Whether every SPARK was configured successfully.
+   */
+  private static boolean configureSparks(SparkBase[] sparks, Consumer<SparkBaseConfig> values) {
+    boolean ok = true;
+    for (SparkBase spark : sparks) {
+      SparkBaseConfig config =
+          spark instanceof SparkMax ? new SparkMaxConfig() : new SparkFlexConfig();
+      values.accept(config);
+      ok &=
+          SparkUtils.tryUntilOk(
+              writeAttempts,
+              () ->
+                  spark.configure(
+                      config, ResetMode.kNoResetSafeParameters, PersistMode.kNoPersistParameters));
+    }
+    return ok;
+  }
+
+  /**
+   * Class that keeps the last known value of a single config group on each of a set of TalonFX
+   * motor controllers, so a write only changes the values that the tunable owns. Only used from the
+   * worker thread.
+   *
+   * @param <T> The type of the config group.
+   */
+  private static final class TalonGroup<T> {
+    private final TalonFX[] talons;
+    private final Supplier<T> empty;
+    private final BiFunction<TalonFXConfigurator, T, StatusCode> read;
+    private final BiFunction<TalonFXConfigurator, T, StatusCode> write;
+
+    /** Last value read from or written to each device, or null if it could not be read yet. */
+    private final ArrayList<T> current;
+
+    /**
+     * Creates a new {@link TalonGroup}.
+     *
+     * @param talons The {@link TalonFX} devices to write to.
+     * @param empty Creates an empty config group, identifying the group to read (such as the slot).
+     * @param read Reads the config group from a device.
+     * @param write Writes the config group to a device.
+     */
+    TalonGroup(
+        TalonFX[] talons,
+        Supplier<T> empty,
+        BiFunction<TalonFXConfigurator, T, StatusCode> read,
+        BiFunction<TalonFXConfigurator, T, StatusCode> write) {
+      this.talons = talons;
+      this.empty = empty;
+      this.read = read;
+      this.write = write;
+      current = new ArrayList<>(talons.length);
+      for (int i = 0; i < talons.length; i++) {
+        current.add(null);
+      }
+    }
+
+    /**
+     * Reads the config group from a device if it has not been read yet.
+     *
+     * @param index The index of the device.
+     * @return Whether the config group of the device is known.
+     */
+    private boolean refresh(int index) {
+      if (current.get(index) != null) {
+        return true;
+      }
+      T configs = empty.get();
+      TalonFXConfigurator configurator = talons[index].getConfigurator();
+      if (!PhoenixSignalUtils.tryUntilOk(
+          writeAttempts, () -> read.apply(configurator, configs))) {
+        return false;
+      }
+      current.set(index, configs);
+      return true;
+    }
+
+    /**
+     * Overwrites the owned values on the last known config group of every device, then writes it.
+     * A device whose config group could not be read is not written, to avoid resetting the values
+     * that are not owned.
+     *
+     * @param values Sets the owned values on a config group.
+     * @return Whether every device was written successfully.
+     */
+    boolean apply(Consumer<T> values) {
+      boolean ok = true;
+      for (int i = 0; i < talons.length; i++) {
+        if (!refresh(i)) {
+          ok = false;
+          continue;
+        }
+        T configs = current.get(i);
+        values.accept(configs);
+        TalonFXConfigurator configurator = talons[i].getConfigurator();
+        ok &=
+            PhoenixSignalUtils.tryUntilOk(
+                writeAttempts, () -> write.apply(configurator, configs));
+      }
+      return ok;
+    }
+  }
+
+  /** Class that tracks the pending writes of a single binding. */
+  private static final class Binding {
+    private final ChangeCursor cursor;
+    private final Supplier<BooleanSupplier> write;
+    private final Alert failedAlert;
+
+    /** Whether the tunable has changed since the last write was started. */
+    private boolean pending = false;
+
+    /** Earliest time (in seconds) that the next write can start. */
+    private double nextWriteTimestamp = 0.0;
+
+    // Set by the worker thread, read on the main thread
+    private volatile boolean writing = false;
+    private volatile boolean failed = false;
+
+    /**
+     * Creates a new {@link Binding}.
+     *
+     * @param name The name of the tunable in alerts.
+     * @param cursor The cursor tracking changes to the tunable.
+     * @param write Builds a write of the current values.
+     */
+    Binding(String name, ChangeCursor cursor, Supplier<BooleanSupplier> write) {
+      this.cursor = cursor;
+      this.write = write;
+      failedAlert =
+          new Alert(
+              AlertConstants.general,
+              "Failed to apply tuned values \"" + name + "\" to every device!",
+              AlertType.kWarning);
+    }
+
+    /**
+     * Starts a write if the tunable has changed, the window has passed, and no write is running.
+     *
+     * @param timestamp The timestamp of the current loop, in seconds.
+     */
+    void periodic(double timestamp) {
+      pending |= cursor.hasChanged();
+      failedAlert.set(failed);
+      if (!pending || writing || timestamp < nextWriteTimestamp) {
+        return;
+      }
+
+      // Build the write with the latest values on the main thread, so the worker never reads them
+      BooleanSupplier nextWrite = write.get();
+      pending = false;
+      writing = true;
+      nextWriteTimestamp = timestamp + coalesceWindowSeconds;
+      getExecutor().execute(
+          () -> {
+            try {
+              failed = !nextWrite.getAsBoolean();
+            } finally {
+              writing = false;
+            }
+          });
+    }
+  }
+}
@@ -7,47 +7,222 @@
 
 package com.team1165.util.tunables;
 
+import com.team1165.util.constants.CompetitionConstants;
+import com.team1165.util.tunables.wrappers.numbers.NetworkNumberWrapper;
+import com.team1165.util.tunables.wrappers.numbers.NumberWrapper;
+import com.team1165.util.tunables.wrappers.numbers.StaticNumberWrapper;
+import edu.wpi.first.networktables.NetworkTableEvent;
+import edu.wpi.first.networktables.NetworkTableInstance;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Stream;
+import org.littletonrobotics.junction.LogTable;
+import org.littletonrobotics.junction.Logger;
+import org.littletonrobotics.junction.inputs.LoggableInputs;
 import org.littletonrobotics.junction.networktables.LoggedNetworkBoolean;
 
-/** Class to manage all {@link Tunable} values. */
+/**
+ * Class to manage all {@link Tunable} values.
+ *
+ * <p>In tuning mode, numbers are not polled every loop. A single NetworkTables listener on the
+ * {@link #tuningKey} subtree records changed values into a lock-free queue, which is drained once
+ * per loop by {@link #periodic()}. Only changed numbers have their version increased, and every
+ * applied change is logged so it can be replayed. Changes to keys with no live number are dropped
+ * before logging, so the log never records a change that was not applied.
+ *
+ * <p>In competition builds (see {@link CompetitionConstants#competitionMode}), tuning is compiled
+ * out. Every check of the constant is folded by the compiler and JIT, so no dashboard entry,
+ * listener, or registry is ever created, and every number is a {@link StaticNumberWrapper}. With
+ * that the only implementation loaded, reading a tunable inlines down to a final field load.
+ */
 public final class TuningManager {
   /** Base dashboard key for all Tunables. */
   public static final String tuningKey = "/Tuning/";
 
+  /** Key that the changes applied each loop are logged under. */
+  private static final String changesKey = "TuningChanges";
+
+  /** Dashboard toggle for tuning mode, or null in competition builds. */
   private static final LoggedNetworkBoolean enabled =
-      new LoggedNetworkBoolean("Tuning/Enabled", false);
-  private static boolean previous = enabled.get();
-  private static Tunable[] tunables;
+      CompetitionConstants.competitionMode
+          ? null
+          : new LoggedNetworkBoolean("Tuning/Enabled", false);
+
+  private static boolean previous = get();
+  private static Tunable[] tunables = new Tunable[0];
+
+  /** Every number published in tuning mode, by full key. */
+  private static final HashMap<String, NetworkNumberWrapper> numbers = new HashMap<>();
+
+  /** Changes recorded by the NetworkTables listener thread, waiting to be applied. */
+  private static final ConcurrentLinkedQueue<Change> queuedChanges = new ConcurrentLinkedQueue<>();
+
+  /** Changes applied during the current loop, logged for replay. */
+  private static final ChangeInputs changes = new ChangeInputs();
+
+  /** Handle of the NetworkTables listener, or 0 if it has not been started. */
+  private static int listenerHandle = 0;
 
   /** Private constructor to prevent instantization. */
   private TuningManager() {}
 
   /** Returns whether the code is currently in tuning mode. */
   public static boolean get() {
-    return enabled.get();
+    return !CompetitionConstants.competitionMode && enabled.get();
   }
 
-  /** Updates the tuning mode across all Tunables using the current dashboard status. */
-  public static void updateTuningMode() {
-    if (previous != enabled.get()) {
+  /**
+   * Updates the tuning mode across all Tunables using the current dashboard status, then applies
+   * every number changed on the dashboard since the last loop. Should be called once per loop.
+   */
+  public static void periodic() {
+    if (CompetitionConstants.competitionMode) {
+      return;
+    }
+    updateTuningMode();
+
+    // Drain the changes recorded by the listener, dropping any for a key with no live number (such
+    // as values that arrived while tuning mode was off), so only applied changes are logged
+    int count = queuedChanges.size();
+    int matched = 0;
+    String[] keys = count == 0 ? null : new String[count];
+    double[] values = count == 0 ? null : new double[count];
+    for (int i = 0; i < count; i++) {
+      Change change = queuedChanges.poll();
+      if (numbers.containsKey(change.key())) {
+        keys[matched] = change.key();
+        values[matched] = change.value();
+        matched++;
+      }
+    }
+    if (matched == 0) {
+      changes.clear();
+    } else {
+      changes.keys = matched == count ? keys : Arrays.copyOf(keys, matched);
+      changes.values = matched == count ? values : Arrays.copyOf(values, matched);
+    }
+
+    // Log the changes, or replace them with the logged changes during replay. Replayed changes are
+    // matched against the same numbers, which replay registers through the same code
+    Logger.processInputs(changesKey, changes);
+    for (int i = 0; i < Math.min(changes.keys.length, changes.values.length); i++) {
+      NetworkNumberWrapper number = numbers.get(changes.keys[i]);
+      if (number != null) {
+        number.set(changes.values[i]);
+      }
+    }
+  }
+
+  /** Updates the tuning mode across all Tunables if the dashboard status has changed. */
+  private static void updateTuningMode() {
+    if (previous != get()) {
+      // Stop publishing every number, tunables publish them again when entering tuning mode
+      for (NetworkNumberWrapper number : numbers.values()) {
+        number.close();
+      }
+      numbers.clear();
+
       for (Tunable tunable : tunables) {
-        tunable.updateTuningMode();
+        tunable.updateTuningModeAndVersion();
       }
-      previous = enabled.get();
+      previous = get();
     }
   }
 
+  /**
+   * Creates a number for a {@link Tunable}, published to NetworkTables if in tuning mode, or static
+   * otherwise.
+   *
+   * @param key The full key for the number.
+   * @param value The default value for the number.
+   * @return The new {@link NumberWrapper}.
+   */
+  static NumberWrapper createNumber(String key, double value) {
+    if (!get()) {
+      return new StaticNumberWrapper(value);
+    }
+    startListener();
+
+    NetworkNumberWrapper number = new NetworkNumberWrapper(key, value);
+    numbers.put(key, number);
+
+    // Queue a value already on the dashboard as a change, so it is applied and logged for replay
+    double networkValue = number.getNetworkValue();
+    if (networkValue != value) {
+      queuedChanges.add(new Change(key, networkValue));
+    }
+    return number;
+  }
+
+  /** Starts the listener recording changes to the tuning subtree, if it has not been started. */
+  private static void startListener() {
+    if (listenerHandle != 0) {
+      return;
+    }
+    listenerHandle =
+        NetworkTableInstance.getDefault()
+            .addListener(
+                new String[] {tuningKey},
+                EnumSet.of(NetworkTableEvent.Kind.kValueRemote),
+                event -> {
+                  if (event.valueData != null && event.valueData.value.isDouble()) {
+                    queuedChanges.add(
+                        new Change(
+                            event.valueData.getTopic().getName(),
+                            event.valueData.value.getDouble()));
+                  }
+                });
+  }
+
   /**
    * Registers {@link Tunable} values with the manager.
    *
    * @param newTunables The new {@link Tunable} values to register.
    */
   static void registerTunables(Tunable... newTunables) {
+    if (CompetitionConstants.competitionMode) {
+      return;
+    }
     tunables =
         Stream.concat(Arrays.stream(tunables), Arrays.stream(newTunables))
             .distinct()
             .toArray(Tunable[]::new);
   }
+
+  /**
+   * A change to a number recorded by the listener.
+   *
+   * @param key The full key of the number.
+   * @param value The new value of the number.
+   */
+  private record Change(String key, double value) {}
+
+  /** Changes applied during a single loop, logged so they can be replayed. */
+  private static final class ChangeInputs implements LoggableInputs {
+    private static final String[] emptyKeys = new String[0];
+    private static final double[] emptyValues = new double[0];
+
+    private String[] keys = emptyKeys;
+    private double[] values = emptyValues;
+
+    /** Clears the changes, without allocating. */
+    void clear() {
+      keys = emptyKeys;
+      values = emptyValues;
+    }
+
+    @Override
+    public void toLog(LogTable table) {
+      table.put("Keys", keys);
+      table.put("Values", values);
+    }
+
+    @Override
+    public void fromLog(LogTable table) {
+      keys = table.get("Keys", emptyKeys);
+      values = table.get("Values", emptyValues);
+    }
+  }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.tunables.wrappers.numbers;
+
+import edu.wpi.first.networktables.DoubleEntry;
+import edu.wpi.first.networktables.NetworkTableInstance;
+
+/**
+ * Class to wrap a NetworkTables double value that is updated by events instead of being polled.
+ *
+ * <p>The value is published to NetworkTables, but never read back from it every loop. Instead, a
+ * single listener records changes from the dashboard, which are applied (and logged for replay)
+ * once per loop through {@link #set(double)}, see {@link com.team1165.util.tunables.TuningManager}.
+ */
+public class NetworkNumberWrapper implements NumberWrapper {
+  private final DoubleEntry entry;
+  private double value;
+  private long version = 0;
+
+  /**
+   * Creates a new {@link NetworkNumberWrapper}, publishing the default value if no value in NT is
+   * found.
+   *
+   * @param key The full NetworkTables key for the number.
+   * @param defaultValue The default value if no value in NT is found.
+   */
+  public NetworkNumberWrapper(String key, double defaultValue) {
+    entry = NetworkTableInstance.getDefault().getDoubleTopic(key).getEntry(defaultValue);
+    entry.setDefault(defaultValue);
+    value = defaultValue;
+  }
+
+  @Override
+  public double get() {
+    return value;
+  }
+
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
+  /** Returns the value currently in NetworkTables, which may not have been applied yet. */
+  public double getNetworkValue() {
+    return entry.get();
+  }
+
+  /**
+   * Sets the value after it has been changed in NetworkTables, increasing the version if it is
+   * different from the current value.
+   *
+   * @param value The new value.
+   */
+  public void set(double value) {
+    if (value != this.value) {
+      this.value = value;
+      version++;
+    }
+  }
+
+  /** Stops publishing the value to NetworkTables. */
+  public void close() {
+    entry.close();
+  }
+}
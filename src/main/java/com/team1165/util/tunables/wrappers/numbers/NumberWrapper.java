@@ -15,12 +15,10 @@ public interface NumberWrapper {
   double get();
 
   /**
-   * Returns whether the value has changed since the last check.
-   *
-   * @param id Unique identifier for the caller to avoid conflicts when shared between multiple
-   *     objects. The recommended approach is to pass the result of {@code hashCode()}.
+   * Returns the version of the value, which increases every time the value changes. Static values
+   * never change, so their version is always 0.
    */
-  default boolean hasChanged(int id) {
-    return false;
+  default long getVersion() {
+    return 0;
   }
 }
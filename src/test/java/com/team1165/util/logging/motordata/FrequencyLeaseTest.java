@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.motordata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.team1165.util.constants.CANFrequency;
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.wpilibj.simulation.SimHooks;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the lifecycle of {@link FrequencyLease} objects on a {@link MotorData}. */
+class FrequencyLeaseTest {
+  /** Motor that records the frequencies applied to its fields instead of configuring signals. */
+  private static final class RecordingMotorData extends GenericMotorData {
+    private final CANFrequency[] applied = new CANFrequency[MotorField.values().length];
+
+    RecordingMotorData(String name) {
+      super(name);
+    }
+
+    @Override
+    void applyFrequencies(CANFrequency[] frequencies, int changedFields) {
+      System.arraycopy(frequencies, 0, applied, 0, frequencies.length);
+    }
+
+    @SuppressWarnings("EnumOrdinal")
+    CANFrequency getApplied(MotorField field) {
+      return applied[field.ordinal()];
+    }
+  }
+
+  @BeforeAll
+  static void setup() {
+    assertTrue(HAL.initialize(500, 0));
+    SimHooks.pauseTiming();
+  }
+
+  @AfterAll
+  static void teardown() {
+    SimHooks.resumeTiming();
+  }
+
+  /** Advances the simulated clock, then runs one loop of the {@link MotorDataBank}. */
+  private static void step(double seconds) {
+    SimHooks.stepTiming(seconds);
+    MotorDataBank.periodic();
+  }
+
+  @Test
+  void renewAfterExpiringRaisesFrequencyAgain() {
+    RecordingMotorData motor = new RecordingMotorData("LeaseMotor");
+    step(0.02);
+
+    FrequencyLease lease = motor.acquireLease(MotorField.POSITION, CANFrequency.FAST, 0.5);
+    step(0.02);
+    assertEquals(CANFrequency.FAST, motor.getApplied(MotorField.POSITION));
+
+    // Let the lease expire without renewing it, so the field drops back to its baseline
+    step(1.0);
+    assertEquals(CANFrequency.MEDIUM, motor.getApplied(MotorField.POSITION));
+
+    lease.renew();
+    step(0.02);
+    assertEquals(CANFrequency.FAST, motor.getApplied(MotorField.POSITION));
+
+    // A released lease can never raise the frequency again, even if it is renewed
+    lease.release();
+    step(0.02);
+    assertEquals(CANFrequency.MEDIUM, motor.getApplied(MotorField.POSITION));
+    lease.renew();
+    step(0.02);
+    assertEquals(CANFrequency.MEDIUM, motor.getApplied(MotorField.POSITION));
+  }
+}
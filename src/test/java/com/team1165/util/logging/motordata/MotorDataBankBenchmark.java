@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.motordata;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.hal.HAL;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.littletonrobotics.junction.LogTable;
+
+/**
+ * Benchmark of the cost of logging the {@link MotorDataBank}. Not part of the unit tests, run it
+ * with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class MotorDataBankBenchmark {
+  /** Number of motors registered, roughly a full competition robot. */
+  private static final int motorCount = 30;
+
+  private static final int warmupLoops = 5000;
+  private static final int measuredLoops = 20000;
+
+  private static final GenericMotorData[] motors = new GenericMotorData[motorCount];
+
+  @BeforeAll
+  static void setup() {
+    assertTrue(HAL.initialize(500, 0));
+    for (int i = 0; i < motorCount; i++) {
+      motors[i] = new GenericMotorData("BenchmarkMotor" + i);
+      motors[i].update(i, true, i % 2 == 0, i, 2.0, 3.0, 4.0 + i, 5.0, 6.0, i);
+    }
+  }
+
+  /**
+   * Compares logging the bank as one struct array against the previous layout of ten string-keyed
+   * values per motor, with {@value #motorCount} motors. Prints the average time per loop of each.
+   */
+  @Test
+  void logging() {
+    for (int i = 0; i < warmupLoops; i++) {
+      logPerMotor(new LogTable(i));
+      MotorDataBank.inputs.toLog(new LogTable(i));
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < measuredLoops; i++) {
+      logPerMotor(new LogTable(i));
+    }
+    double perMotorMicros = (System.nanoTime() - start) / 1e3 / measuredLoops;
+
+    start = System.nanoTime();
+    for (int i = 0; i < measuredLoops; i++) {
+      MotorDataBank.inputs.toLog(new LogTable(i));
+    }
+    double bankMicros = (System.nanoTime() - start) / 1e3 / measuredLoops;
+
+    System.out.printf(
+        "MotorData logging, %d motors: per-motor keys %.2f us/loop, struct array %.2f us/loop%n",
+        motorCount, perMotorMicros, bankMicros);
+  }
+
+  /** Logs every motor the way each {@link MotorData} was logged before the bank existed. */
+  private static void logPerMotor(LogTable root) {
+    for (GenericMotorData motor : motors) {
+      LogTable table = root.getSubtable("MotorData/Motor" + motor.row);
+      table.put("AppliedVolts", motor.getAppliedVolts(false));
+      table.put("Connected", motor.getConnected());
+      table.put("FaultActive", motor.getFaultActive(false));
+      table.put("Faults", MotorFaults.decode(MotorFaults.generic, motor.getFaults(false)));
+      table.put("MotorTemperatureCelsius", motor.getMotorTemperatureCelsius(false));
+      table.put("OutputCurrentAmps", motor.getOutputCurrentAmps(false));
+      table.put("Position", motor.getPosition(false));
+      table.put("ProcessorTemperatureCelsius", motor.getProcessorTemperatureCelsius(false));
+      table.put("SupplyCurrentAmps", motor.getSupplyCurrentAmps(false));
+      table.put("Velocity", motor.getVelocity(false));
+    }
+  }
+}
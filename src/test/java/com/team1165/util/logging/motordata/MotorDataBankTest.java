@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.motordata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.hal.HAL;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.littletonrobotics.junction.LogTable;
+
+/** Tests for serializing the {@link MotorDataBank}. */
+class MotorDataBankTest {
+  /** Number of motors registered, roughly a full competition robot. */
+  private static final int motorCount = 30;
+
+  private static final GenericMotorData[] motors = new GenericMotorData[motorCount];
+
+  @BeforeAll
+  static void setup() {
+    assertTrue(HAL.initialize(500, 0));
+    for (int i = 0; i < motorCount; i++) {
+      motors[i] = new GenericMotorData("Motor" + i);
+    }
+    updateMotors(1.0);
+  }
+
+  /** Updates every test motor with values derived from its index and the provided seed. */
+  private static void updateMotors(double seed) {
+    for (int i = 0; i < motorCount; i++) {
+      motors[i].update(
+          seed + i, true, i % 2 == 0, i, seed * 2, seed * 3, seed * 4 + i, seed * 5, seed * 6, i);
+    }
+  }
+
+  @Test
+  void unpackReadsDetachedRows() {
+    LogTable table = new LogTable(0);
+    MotorDataBank.inputs.toLog(table);
+
+    MotorDataRow[] rows = table.get("Data", MotorDataBank.struct, new MotorDataRow[0]);
+    assertEquals(MotorDataBank.size(), rows.length);
+    for (GenericMotorData motor : motors) {
+      MotorDataRow row = rows[motor.row];
+      assertEquals(motor.getAppliedVolts(false), row.getAppliedVolts());
+      assertEquals(motor.getConnected(), row.getConnected());
+      assertEquals(motor.getFaultActive(false), row.getFaultActive());
+      assertEquals(motor.getFaults(false), row.getFaults());
+      assertEquals(motor.getPosition(false), row.getPosition());
+      assertEquals(motor.getVelocity(false), row.getVelocity());
+      assertEquals(motor.getTimestamp(), row.getTimestamp());
+    }
+  }
+
+  @Test
+  void fromLogRestoresColumns() {
+    LogTable table = new LogTable(0);
+    MotorDataBank.inputs.toLog(table);
+    double[] expected = new double[motorCount];
+    for (int i = 0; i < motorCount; i++) {
+      expected[i] = motors[i].getPosition(false);
+    }
+
+    updateMotors(7.0);
+    MotorDataBank.inputs.fromLog(table);
+    for (int i = 0; i < motorCount; i++) {
+      assertEquals(expected[i], motors[i].getPosition(false));
+    }
+  }
+}
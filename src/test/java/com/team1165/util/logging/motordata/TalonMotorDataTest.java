@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025-2026 Team Paradise - FRC 1165 (https://github.com/TeamParadise)
+ *
+ * Use of this source code is governed by the MIT License, which can be found in the LICENSE file at
+ * the root directory of this project.
+ */
+
+package com.team1165.util.logging.motordata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.ctre.phoenix6.configs.TalonFXConfiguration;
+import com.ctre.phoenix6.hardware.TalonFX;
+import com.sun.management.ThreadMXBean;
+import com.team1165.util.constants.CANConstants;
+import com.team1165.util.vendor.ctre.PhoenixDeviceConfigs.TalonFXConfig;
+import com.team1165.util.vendor.ctre.PhoenixSignalUtils;
+import edu.wpi.first.hal.HAL;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link TalonMotorData}, run against a simulated Talon FX. */
+class TalonMotorDataTest {
+  private TalonFX talon;
+  private TalonMotorData motorData;
+
+  @BeforeEach
+  void setup() throws InterruptedException {
+    assertTrue(HAL.initialize(500, 0));
+    talon = new TalonFX(1, CANConstants.rio);
+    motorData =
+        new TalonMotorData(
+            talon, new TalonFXConfig("TestTalon", 1, CANConstants.rio, new TalonFXConfiguration()));
+
+    // Let the simulated Talon start and run every path of the update, so the remaining loops are in
+    // the steady state
+    for (int i = 0; i < 100; i++) {
+      PhoenixSignalUtils.refreshAll();
+      motorData.update();
+      Thread.sleep(5);
+    }
+  }
+
+  @AfterEach
+  void teardown() {
+    PhoenixSignalUtils.unregisterOwner(talon);
+    talon.close();
+  }
+
+  @Test
+  void updateDoesNotAllocate() {
+    // Per-thread allocation counters are a HotSpot extension, so skip on JVMs without them
+    assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+    ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+    threadBean.setThreadAllocatedMemoryEnabled(true);
+
+    // Refresh between updates so every loop reads new values, but only measure the updates
+    long allocatedBytes = 0;
+    for (int i = 0; i < 1000; i++) {
+      PhoenixSignalUtils.refreshAll();
+      long before = threadBean.getCurrentThreadAllocatedBytes();
+      motorData.update();
+      allocatedBytes += threadBean.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    assertEquals(0, allocatedBytes, "TalonMotorData.update() allocated in the steady state");
+  }
+}